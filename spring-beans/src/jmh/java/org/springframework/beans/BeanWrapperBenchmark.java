@@ -0,0 +1,167 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for property binding through {@link BeanWrapperImpl}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class BeanWrapperBenchmark {
+
+	@Benchmark
+	public void setSimpleProperty(BenchmarkState state, Blackhole bh) {
+		BeanWrapper bw = new BeanWrapperImpl(new Customer());
+		bw.setPropertyValue("name", "Jane");
+		bh.consume(bw.getWrappedInstance());
+	}
+
+	@Benchmark
+	public void setPropertyWithConversion(BenchmarkState state, Blackhole bh) {
+		BeanWrapper bw = new BeanWrapperImpl(new Customer());
+		bw.setPropertyValue("age", "42");
+		bh.consume(bw.getWrappedInstance());
+	}
+
+	@Benchmark
+	public void setNestedProperty(BenchmarkState state, Blackhole bh) {
+		BeanWrapper bw = new BeanWrapperImpl(new Customer());
+		bw.setAutoGrowNestedPaths(true);
+		bw.setPropertyValue("address.city", "Paris");
+		bh.consume(bw.getWrappedInstance());
+	}
+
+	@Benchmark
+	public void setPropertyValues(BenchmarkState state, Blackhole bh) {
+		BeanWrapper bw = new BeanWrapperImpl(new Customer());
+		bw.setAutoGrowNestedPaths(true);
+		bw.setPropertyValues(state.propertyValues);
+		bh.consume(bw.getWrappedInstance());
+	}
+
+	@Benchmark
+	public void getSimpleProperty(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.beanWrapper.getPropertyValue("name"));
+	}
+
+	@Benchmark
+	public void getNestedProperty(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.beanWrapper.getPropertyValue("address.city"));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		MutablePropertyValues propertyValues;
+
+		BeanWrapper beanWrapper;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.propertyValues = new MutablePropertyValues();
+			this.propertyValues.add("name", "Jane");
+			this.propertyValues.add("age", "42");
+			this.propertyValues.add("active", "true");
+			this.propertyValues.add("address.street", "Main Street");
+			this.propertyValues.add("address.city", "Paris");
+
+			Customer customer = new Customer();
+			customer.setName("Jane");
+			customer.setAddress(new Address());
+			customer.getAddress().setCity("Paris");
+			this.beanWrapper = new BeanWrapperImpl(customer);
+		}
+	}
+
+
+	public static class Customer {
+
+		private String name;
+
+		private int age;
+
+		private boolean active;
+
+		private Address address;
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public int getAge() {
+			return this.age;
+		}
+
+		public void setAge(int age) {
+			this.age = age;
+		}
+
+		public boolean isActive() {
+			return this.active;
+		}
+
+		public void setActive(boolean active) {
+			this.active = active;
+		}
+
+		public Address getAddress() {
+			return this.address;
+		}
+
+		public void setAddress(Address address) {
+			this.address = address;
+		}
+	}
+
+
+	public static class Address {
+
+		private String street;
+
+		private String city;
+
+		public String getStreet() {
+			return this.street;
+		}
+
+		public void setStreet(String street) {
+			this.street = street;
+		}
+
+		public String getCity() {
+			return this.city;
+		}
+
+		public void setCity(String city) {
+			this.city = city;
+		}
+	}
+
+}
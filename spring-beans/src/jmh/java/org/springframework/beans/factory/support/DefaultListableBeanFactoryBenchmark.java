@@ -0,0 +1,241 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.beans.factory.support;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.DependencyDescriptor;
+import org.springframework.core.ResolvableType;
+
+/**
+ * Benchmarks for bean creation and dependency resolution in
+ * {@link DefaultListableBeanFactory}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DefaultListableBeanFactoryBenchmark {
+
+	@Benchmark
+	public void createBean(CreationState state, Blackhole bh) {
+		bh.consume(state.beanFactory.createBean(AutowiredService.class));
+	}
+
+	@Benchmark
+	public void getPrototypeBeanWithPropertyValues(CreationState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("prototypeWithProperties"));
+	}
+
+	@Benchmark
+	public void getPrototypeBeanWithAutowiredConstructor(CreationState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("prototypeWithConstructor"));
+	}
+
+	@Benchmark
+	public void getPrototypeBeanWithAutowiredFields(CreationState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBean("prototypeWithFields"));
+	}
+
+	@Benchmark
+	public void getBeanNamesForRawType(LookupState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBeanNamesForType(Repository.class, true, state.allowEagerInit));
+	}
+
+	@Benchmark
+	public void getBeanNamesForGenericType(LookupState state, Blackhole bh) {
+		bh.consume(state.beanFactory.getBeanNamesForType(state.genericType, true, state.allowEagerInit));
+	}
+
+	@Benchmark
+	public void resolveObjectProviderDependency(LookupState state, Blackhole bh) {
+		ObjectProvider<?> provider = (ObjectProvider<?>) state.beanFactory.resolveDependency(state.providerDescriptor, null);
+		bh.consume(provider.getObject());
+	}
+
+	@Benchmark
+	public void resolveListDependency(LookupState state, Blackhole bh) {
+		bh.consume(state.beanFactory.resolveDependency(state.listDescriptor, null));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class CreationState {
+
+		DefaultListableBeanFactory beanFactory;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.beanFactory = new DefaultListableBeanFactory();
+			AutowiredAnnotationBeanPostProcessor bpp = new AutowiredAnnotationBeanPostProcessor();
+			bpp.setBeanFactory(this.beanFactory);
+			this.beanFactory.addBeanPostProcessor(bpp);
+
+			this.beanFactory.registerBeanDefinition("customerRepository", new RootBeanDefinition(CustomerRepository.class));
+			this.beanFactory.registerBeanDefinition("orderRepository", new RootBeanDefinition(OrderRepository.class));
+
+			RootBeanDefinition withProperties = new RootBeanDefinition(PropertiesService.class);
+			withProperties.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			withProperties.getPropertyValues().add("name", "service");
+			withProperties.getPropertyValues().add("timeout", "1000");
+			withProperties.getPropertyValues().add("enabled", "true");
+			this.beanFactory.registerBeanDefinition("prototypeWithProperties", withProperties);
+
+			RootBeanDefinition withConstructor = new RootBeanDefinition(ConstructorService.class);
+			withConstructor.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			withConstructor.setAutowireMode(RootBeanDefinition.AUTOWIRE_CONSTRUCTOR);
+			this.beanFactory.registerBeanDefinition("prototypeWithConstructor", withConstructor);
+
+			RootBeanDefinition withFields = new RootBeanDefinition(AutowiredService.class);
+			withFields.setScope(BeanDefinition.SCOPE_PROTOTYPE);
+			this.beanFactory.registerBeanDefinition("prototypeWithFields", withFields);
+
+			this.beanFactory.freezeConfiguration();
+			this.beanFactory.preInstantiateSingletons();
+		}
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class LookupState {
+
+		@Param({"100", "1000"})
+		int beanCount;
+
+		@Param({"true", "false"})
+		boolean allowEagerInit;
+
+		@Param({"true", "false"})
+		boolean frozen;
+
+		DefaultListableBeanFactory beanFactory;
+
+		ResolvableType genericType;
+
+		DependencyDescriptor providerDescriptor;
+
+		DependencyDescriptor listDescriptor;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			this.beanFactory = new DefaultListableBeanFactory();
+			for (int i = 0; i < this.beanCount; i++) {
+				this.beanFactory.registerBeanDefinition("bean" + i, new RootBeanDefinition(PropertiesService.class));
+			}
+			this.beanFactory.registerBeanDefinition("customerRepository", new RootBeanDefinition(CustomerRepository.class));
+			this.beanFactory.registerBeanDefinition("orderRepository", new RootBeanDefinition(OrderRepository.class));
+			if (this.frozen) {
+				this.beanFactory.freezeConfiguration();
+			}
+			this.beanFactory.preInstantiateSingletons();
+
+			this.genericType = ResolvableType.forClassWithGenerics(Repository.class, Customer.class);
+			this.providerDescriptor = new DependencyDescriptor(
+					DependencyHolder.class.getDeclaredField("customerRepository"), true);
+			this.listDescriptor = new DependencyDescriptor(
+					DependencyHolder.class.getDeclaredField("repositories"), true);
+		}
+	}
+
+
+	static class Customer {
+	}
+
+
+	static class Order {
+	}
+
+
+	interface Repository<T> {
+	}
+
+
+	static class CustomerRepository implements Repository<Customer> {
+	}
+
+
+	static class OrderRepository implements Repository<Order> {
+	}
+
+
+	static class DependencyHolder {
+
+		ObjectProvider<Repository<Customer>> customerRepository;
+
+		List<Repository<?>> repositories;
+	}
+
+
+	public static class PropertiesService {
+
+		private String name;
+
+		private int timeout;
+
+		private boolean enabled;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public void setTimeout(int timeout) {
+			this.timeout = timeout;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+	}
+
+
+	public static class ConstructorService {
+
+		private final Repository<Customer> customerRepository;
+
+		private final Repository<Order> orderRepository;
+
+		public ConstructorService(Repository<Customer> customerRepository, Repository<Order> orderRepository) {
+			this.customerRepository = customerRepository;
+			this.orderRepository = orderRepository;
+		}
+	}
+
+
+	public static class AutowiredService {
+
+		@Autowired
+		private Repository<Customer> customerRepository;
+
+		@Autowired
+		private ObjectProvider<Repository<Order>> orderRepository;
+
+		@Autowired
+		private List<Repository<?>> repositories;
+	}
+
+}
@@ -212,11 +212,15 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 			throw new InvalidPropertyException(getRootClass(), getNestedPath() + propertyName,
 					"No property '" + propertyName + "' found");
 		}
+		return convertForProperty(propertyName, null, value, getTypeDescriptor(cachedIntrospectionResults, pd));
+	}
+
+	private TypeDescriptor getTypeDescriptor(CachedIntrospectionResults cachedIntrospectionResults, PropertyDescriptor pd) {
 		TypeDescriptor td = cachedIntrospectionResults.getTypeDescriptor(pd);
 		if (td == null) {
 			td = cachedIntrospectionResults.addTypeDescriptor(pd, new TypeDescriptor(property(pd)));
 		}
-		return convertForProperty(propertyName, null, value, td);
+		return td;
 	}
 
 	private Property property(PropertyDescriptor pd) {
@@ -277,7 +281,7 @@ public class BeanWrapperImpl extends AbstractNestablePropertyAccessor implements
 
 		@Override
 		public TypeDescriptor toTypeDescriptor() {
-			return new TypeDescriptor(property(this.pd));
+			return getTypeDescriptor(getCachedIntrospectionResults(), this.pd);
 		}
 
 		@Override
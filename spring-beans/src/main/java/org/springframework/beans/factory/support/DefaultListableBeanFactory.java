@@ -25,6 +25,10 @@ import java.lang.annotation.Annotation;
 import java.lang.ref.Reference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -172,6 +176,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	/** Map of singleton-only bean names, keyed by dependency type. */
 	private final Map<Class<?>, String[]> singletonBeanNamesByType = new ConcurrentHashMap<>(64);
 
+	/** Map of singleton and non-singleton bean names, keyed by generic dependency type structure. */
+	private final Map<List<Object>, String[]> allBeanNamesByGenericType = new ConcurrentHashMap<>(64);
+
+	/** Map of singleton-only bean names, keyed by generic dependency type structure. */
+	private final Map<List<Object>, String[]> singletonBeanNamesByGenericType = new ConcurrentHashMap<>(64);
+
 	/** List of bean definition names, in registration order. */
 	private volatile List<String> beanDefinitionNames = new ArrayList<>(256);
 
@@ -526,9 +536,72 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		if (resolved != null && !type.hasGenerics()) {
 			return getBeanNamesForType(resolved, includeNonSingletons, allowEagerInit);
 		}
-		else {
+		List<Object> cacheKey = (isConfigurationFrozen() && allowEagerInit ? getGenericTypeCacheKey(type) : null);
+		if (cacheKey == null) {
 			return doGetBeanNamesForType(type, includeNonSingletons, allowEagerInit);
 		}
+		Map<List<Object>, String[]> cache =
+				(includeNonSingletons ? this.allBeanNamesByGenericType : this.singletonBeanNamesByGenericType);
+		String[] resolvedBeanNames = cache.get(cacheKey);
+		if (resolvedBeanNames != null) {
+			return resolvedBeanNames;
+		}
+		resolvedBeanNames = doGetBeanNamesForType(type, includeNonSingletons, true);
+		cache.put(cacheKey, resolvedBeanNames);
+		return resolvedBeanNames;
+	}
+
+	/**
+	 * Build a cache key for the given generic type from the classes, wildcard
+	 * bounds and array components of its structure. The key does not retain the
+	 * field, method parameter or owner class the type has been obtained from.
+	 * @return the cache key, or {@code null} if the type must not be cached since
+	 * it contains type variables or classes that are not cache-safe
+	 */
+	@Nullable
+	private List<Object> getGenericTypeCacheKey(ResolvableType type) {
+		List<Object> key = new ArrayList<>();
+		return (addGenericTypeCacheKey(type, key) ? key : null);
+	}
+
+	private boolean addGenericTypeCacheKey(ResolvableType type, List<Object> key) {
+		Type javaType = type.getType();
+		if (javaType instanceof TypeVariable) {
+			// Resolution may depend on the type matched against
+			return false;
+		}
+		if (javaType instanceof WildcardType) {
+			WildcardType wildcardType = (WildcardType) javaType;
+			boolean lower = (wildcardType.getLowerBounds().length > 0);
+			key.add(lower ? "? super" : "? extends");
+			for (Type bound : (lower ? wildcardType.getLowerBounds() : wildcardType.getUpperBounds())) {
+				if (!addGenericTypeCacheKey(ResolvableType.forType(bound), key)) {
+					return false;
+				}
+			}
+			key.add(";");
+			return true;
+		}
+		if (type.isArray()) {
+			key.add("[]");
+			return addGenericTypeCacheKey(type.getComponentType(), key);
+		}
+		Class<?> resolved = type.resolve();
+		if (resolved == null || !ClassUtils.isCacheSafe(resolved, getBeanClassLoader())) {
+			return false;
+		}
+		key.add(resolved);
+		// Only descend into declared generics, not into the type parameters of a raw class
+		if (javaType instanceof ParameterizedType) {
+			key.add("<");
+			for (ResolvableType generic : type.getGenerics()) {
+				if (!addGenericTypeCacheKey(generic, key)) {
+					return false;
+				}
+			}
+			key.add(">");
+		}
+		return true;
 	}
 
 	@Override
@@ -1189,6 +1262,8 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 	private void clearByTypeCache() {
 		this.allBeanNamesByType.clear();
 		this.singletonBeanNamesByType.clear();
+		this.allBeanNamesByGenericType.clear();
+		this.singletonBeanNamesByGenericType.clear();
 	}
 
 
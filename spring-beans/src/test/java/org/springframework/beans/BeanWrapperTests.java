@@ -17,12 +17,14 @@
 package org.springframework.beans;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
 import org.springframework.beans.testfixture.beans.TestBean;
+import org.springframework.core.convert.TypeDescriptor;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -210,6 +212,36 @@ public class BeanWrapperTests extends AbstractPropertyAccessorTests {
 	}
 
 
+	@Test
+	public void propertyTypeDescriptorIsCachedPerProperty() {
+		GenericBean target = new GenericBean();
+		BeanWrapper accessor = createAccessor(target);
+		TypeDescriptor td = accessor.getPropertyTypeDescriptor("numbers");
+		assertThat(td.getType()).isEqualTo(List.class);
+		assertThat(td.getElementTypeDescriptor().getType()).isEqualTo(Integer.class);
+		assertThat(accessor.getPropertyTypeDescriptor("numbers")).isSameAs(td);
+		assertThat(createAccessor(new GenericBean()).getPropertyTypeDescriptor("numbers")).isSameAs(td);
+
+		accessor.setPropertyValue("numbers", new String[] {"1", "2"});
+		assertThat(target.getNumbers()).containsExactly(1, 2);
+		assertThat(accessor.getPropertyTypeDescriptor("numbers")).isSameAs(td);
+	}
+
+	@Test
+	public void nestedPropertyTypeDescriptorResolvesGenerics() {
+		GenericBean target = new GenericBean();
+		target.setNested(new GenericBean());
+		BeanWrapper accessor = createAccessor(target);
+		assertThat(accessor.getPropertyTypeDescriptor("nested").getType()).isEqualTo(GenericBean.class);
+		assertThat(accessor.getPropertyTypeDescriptor("nested.numbers").getElementTypeDescriptor().getType())
+				.isEqualTo(Integer.class);
+		assertThat(accessor.getPropertyTypeDescriptor("numbers[0]").getType()).isEqualTo(Integer.class);
+
+		accessor.setPropertyValue("nested.numbers", new String[] {"3"});
+		assertThat(target.getNested().getNumbers()).containsExactly(3);
+	}
+
+
 	private interface BaseProperty {
 
 		default String getAliasedName() {
@@ -304,6 +336,30 @@ public class BeanWrapperTests extends AbstractPropertyAccessorTests {
 	}
 
 
+	public static class GenericBean {
+
+		private List<Integer> numbers;
+
+		private GenericBean nested;
+
+		public List<Integer> getNumbers() {
+			return this.numbers;
+		}
+
+		public void setNumbers(List<Integer> numbers) {
+			this.numbers = numbers;
+		}
+
+		public GenericBean getNested() {
+			return this.nested;
+		}
+
+		public void setNested(GenericBean nested) {
+			this.nested = nested;
+		}
+	}
+
+
 	public static class GetterWithOptional {
 
 		public TestBean value;
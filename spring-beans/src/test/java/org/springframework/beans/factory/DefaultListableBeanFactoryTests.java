@@ -1817,6 +1817,50 @@ class DefaultListableBeanFactoryTests {
 		assertThat(lbf.getBeanNamesForType(ResolvableType.forClassWithGenerics(FactoryBean.class, String.class), true, true).length).isEqualTo(0);
 	}
 
+	@Test
+	void getBeanNamesForGenericTypeWithFrozenConfiguration() {
+		lbf.registerBeanDefinition("stringCallable", new RootBeanDefinition(StringCallable.class));
+		lbf.registerBeanDefinition("integerCallable", new RootBeanDefinition(IntegerCallable.class));
+		lbf.freezeConfiguration();
+
+		ResolvableType stringCallableType = ResolvableType.forClassWithGenerics(Callable.class, String.class);
+		assertThat(lbf.getBeanNamesForType(stringCallableType)).containsExactly("stringCallable");
+		assertThat(lbf.getBeanNamesForType(stringCallableType)).containsExactly("stringCallable");
+		assertThat(lbf.getBeanNamesForType(stringCallableType, false, true)).containsExactly("stringCallable");
+
+		lbf.registerSingleton("anotherStringCallable", new StringCallable());
+		assertThat(lbf.getBeanNamesForType(stringCallableType))
+				.containsExactly("stringCallable", "anotherStringCallable");
+		assertThat(lbf.getBeanNamesForType(stringCallableType, false, true))
+				.containsExactly("stringCallable", "anotherStringCallable");
+	}
+
+	@Test
+	void getBeanNamesForWildcardTypeWithFrozenConfiguration() throws Exception {
+		lbf.registerBeanDefinition("stringCallable", new RootBeanDefinition(StringCallable.class));
+		lbf.registerBeanDefinition("integerCallable", new RootBeanDefinition(IntegerCallable.class));
+		lbf.freezeConfiguration();
+
+		ResolvableType numberCallableType =
+				ResolvableType.forField(CallableInjectionPoints.class.getDeclaredField("numberCallable"));
+		ResolvableType charSequenceCallableType =
+				ResolvableType.forField(CallableInjectionPoints.class.getDeclaredField("charSequenceCallable"));
+		ResolvableType exactNumberCallableType =
+				ResolvableType.forField(CallableInjectionPoints.class.getDeclaredField("exactNumberCallable"));
+		ResolvableType numberCallablesType =
+				ResolvableType.forField(CallableInjectionPoints.class.getDeclaredField("numberCallables"));
+		for (int i = 0; i < 2; i++) {
+			assertThat(lbf.getBeanNamesForType(numberCallableType)).containsExactly("integerCallable");
+			assertThat(lbf.getBeanNamesForType(charSequenceCallableType)).containsExactly("stringCallable");
+			assertThat(lbf.getBeanNamesForType(exactNumberCallableType)).isEmpty();
+			assertThat(lbf.getBeanNamesForType(numberCallablesType)).isEmpty();
+		}
+
+		lbf.registerSingleton("integerCallables", new IntegerCallable[0]);
+		assertThat(lbf.getBeanNamesForType(numberCallableType)).containsExactly("integerCallable");
+		assertThat(lbf.getBeanNamesForType(numberCallablesType)).containsExactly("integerCallables");
+	}
+
 	private RootBeanDefinition createConstructorDependencyBeanDefinition(int age) {
 		RootBeanDefinition bd = new RootBeanDefinition(ConstructorDependency.class);
 		bd.setScope(BeanDefinition.SCOPE_PROTOTYPE);
@@ -3395,4 +3439,35 @@ class DefaultListableBeanFactoryTests {
 		}
 	}
 
+
+	@SuppressWarnings("unused")
+	static class CallableInjectionPoints {
+
+		private Callable<? extends Number> numberCallable;
+
+		private Callable<? extends CharSequence> charSequenceCallable;
+
+		private Callable<Number> exactNumberCallable;
+
+		private Callable<? extends Number>[] numberCallables;
+	}
+
+
+	static class StringCallable implements Callable<String> {
+
+		@Override
+		public String call() {
+			return "value";
+		}
+	}
+
+
+	static class IntegerCallable implements Callable<Integer> {
+
+		@Override
+		public Integer call() {
+			return 42;
+		}
+	}
+
 }
@@ -204,4 +204,13 @@ public @interface EnableCaching {
 	 */
 	int order() default Ordered.LOWEST_PRECEDENCE;
 
+	/**
+	 * Indicate whether concurrent invocations missing the same keys in the same
+	 * caches should be coalesced, invoking the underlying method only once.
+	 * <p>The default is {@code false}.
+	 * @since 5.3
+	 * @see org.springframework.cache.interceptor.CacheAspectSupport#setCoalesceConcurrentMisses
+	 */
+	boolean coalesceConcurrentMisses() default false;
+
 }
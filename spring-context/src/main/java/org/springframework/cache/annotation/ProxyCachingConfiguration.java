@@ -65,6 +65,9 @@ public class ProxyCachingConfiguration extends AbstractCachingConfiguration {
 		CacheInterceptor interceptor = new CacheInterceptor();
 		interceptor.configure(this.errorHandler, this.keyGenerator, this.cacheResolver, this.cacheManager);
 		interceptor.setCacheOperationSource(cacheOperationSource);
+		if (this.enableCaching != null) {
+			interceptor.setCoalesceConcurrentMisses(this.enableCaching.getBoolean("coalesceConcurrentMisses"));
+		}
 		return interceptor;
 	}
 
@@ -133,6 +133,13 @@ class AnnotationDrivenCacheBeanDefinitionParser implements BeanDefinitionParser
 		}
 	}
 
+	private static void parseCoalesceConcurrentMisses(Element element, BeanDefinition def) {
+		String coalesceConcurrentMisses = element.getAttribute("coalesce-concurrent-misses");
+		if (StringUtils.hasText(coalesceConcurrentMisses)) {
+			def.getPropertyValues().add("coalesceConcurrentMisses", coalesceConcurrentMisses.trim());
+		}
+	}
+
 
 	/**
 	 * Configure the necessary infrastructure to support the Spring's caching annotations.
@@ -155,6 +162,7 @@ class AnnotationDrivenCacheBeanDefinitionParser implements BeanDefinitionParser
 				interceptorDef.setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
 				parseCacheResolution(element, interceptorDef, false);
 				parseErrorHandler(element, interceptorDef);
+				parseCoalesceConcurrentMisses(element, interceptorDef);
 				CacheNamespaceHandler.parseKeyGenerator(element, interceptorDef);
 				interceptorDef.getPropertyValues().add("cacheOperationSources", new RuntimeBeanReference(sourceName));
 				String interceptorName = parserContext.getReaderContext().registerWithGeneratedName(interceptorDef);
@@ -193,6 +201,7 @@ class AnnotationDrivenCacheBeanDefinitionParser implements BeanDefinitionParser
 				def.setBeanClassName(CACHE_ASPECT_CLASS_NAME);
 				def.setFactoryMethodName("aspectOf");
 				parseCacheResolution(element, def, false);
+				parseCoalesceConcurrentMisses(element, def);
 				CacheNamespaceHandler.parseKeyGenerator(element, def);
 				parserContext.registerBeanComponent(new BeanComponentDefinition(def, CacheManagementConfigUtils.CACHE_ASPECT_BEAN_NAME));
 			}
@@ -24,7 +24,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Supplier;
 
 import org.apache.commons.logging.Log;
@@ -89,6 +92,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 	private final CacheOperationExpressionEvaluator evaluator = new CacheOperationExpressionEvaluator();
 
+	private final ConcurrentMap<List<Object>, SharedLoad> sharedLoads = new ConcurrentHashMap<>(64);
+
 	@Nullable
 	private CacheOperationSource cacheOperationSource;
 
@@ -100,6 +105,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 	@Nullable
 	private BeanFactory beanFactory;
 
+	private boolean coalesceConcurrentMisses = false;
+
 	private boolean initialized = false;
 
 
@@ -194,6 +201,34 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		this.cacheResolver = SingletonSupplier.of(new SimpleCacheResolver(cacheManager));
 	}
 
+	/**
+	 * Specify whether concurrent invocations missing the same keys in the same
+	 * caches should be coalesced, with a single invocation of the underlying
+	 * method loading the value and the other invocations waiting for it.
+	 * <p>In contrast to {@link org.springframework.cache.annotation.Cacheable#sync()},
+	 * this does not rely on {@link Cache#get(Object, java.util.concurrent.Callable)}
+	 * and therefore applies to any {@link Cache} implementation, to several caches
+	 * per operation as well as to {@code condition} and {@code unless} attributes.
+	 * It is not applied to methods that also declare a {@code @CachePut} operation.
+	 * <p>Note that waiting invocations receive the value returned to the loading
+	 * invocation, so keys must identify all arguments the value depends on.
+	 * If the loading invocation fails, a waiting invocation retries on its own.
+	 * <p>The default is {@code false}, invoking the method for every cache miss.
+	 * @since 5.3
+	 */
+	public void setCoalesceConcurrentMisses(boolean coalesceConcurrentMisses) {
+		this.coalesceConcurrentMisses = coalesceConcurrentMisses;
+	}
+
+	/**
+	 * Return whether concurrent invocations missing the same keys in the same
+	 * caches are coalesced.
+	 * @since 5.3
+	 */
+	public boolean isCoalesceConcurrentMisses() {
+		return this.coalesceConcurrentMisses;
+	}
+
 	/**
 	 * Set the containing {@link BeanFactory} for {@link CacheManager} and other
 	 * service lookups.
@@ -416,6 +451,13 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			cacheValue = cacheHit.get();
 			returnValue = wrapCacheValue(method, cacheValue);
 		}
+		else if (cacheHit == null && this.coalesceConcurrentMisses && !cachePutRequests.isEmpty() &&
+				contexts.get(CachePutOperation.class).isEmpty()) {
+			// Invoke the method once for concurrent misses, applying the puts right away
+			cacheValue = handleCoalescedMiss(invoker, cachePutRequests);
+			returnValue = wrapCacheValue(method, cacheValue);
+			cachePutRequests.clear();
+		}
 		else {
 			// Invoke the method if we don't have a cache hit
 			returnValue = invokeOperation(invoker);
@@ -452,6 +494,71 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return result;
 	}
 
+	@Nullable
+	private Object handleCoalescedMiss(CacheOperationInvoker invoker, List<CachePutRequest> cachePutRequests) {
+		List<Object> loadKey = new ArrayList<>();
+		for (CachePutRequest cachePutRequest : cachePutRequests) {
+			for (Cache cache : cachePutRequest.context.getCaches()) {
+				loadKey.add(cache);
+				loadKey.add(cachePutRequest.key);
+			}
+		}
+
+		SharedLoad load = new SharedLoad();
+		SharedLoad existing;
+		while ((existing = this.sharedLoads.putIfAbsent(loadKey, load)) != null) {
+			if (existing.loader == Thread.currentThread()) {
+				// Reentrant invocation from the loading method itself
+				Object cacheValue = unwrapReturnValue(invokeOperation(invoker));
+				applyPutRequests(cachePutRequests, cacheValue);
+				return cacheValue;
+			}
+			try {
+				Object cacheValue = existing.result.join();
+				if (logger.isTraceEnabled()) {
+					logger.trace("Cache entry for key(s) " + loadKey + " loaded by concurrent invocation");
+				}
+				return cacheValue;
+			}
+			catch (CompletionException ex) {
+				// Concurrent invocation failed: try again, possibly loading the value ourselves
+			}
+		}
+
+		try {
+			// A concurrent invocation may have put the value right before we registered
+			Cache.ValueWrapper cacheHit = null;
+			for (CachePutRequest cachePutRequest : cachePutRequests) {
+				cacheHit = findInCaches(cachePutRequest.context, cachePutRequest.key);
+				if (cacheHit != null) {
+					break;
+				}
+			}
+			Object cacheValue;
+			if (cacheHit != null) {
+				cacheValue = cacheHit.get();
+			}
+			else {
+				cacheValue = unwrapReturnValue(invokeOperation(invoker));
+				applyPutRequests(cachePutRequests, cacheValue);
+			}
+			this.sharedLoads.remove(loadKey, load);
+			load.result.complete(cacheValue);
+			return cacheValue;
+		}
+		catch (Throwable ex) {
+			this.sharedLoads.remove(loadKey, load);
+			load.result.completeExceptionally(ex);
+			throw ex;
+		}
+	}
+
+	private void applyPutRequests(List<CachePutRequest> cachePutRequests, @Nullable Object cacheValue) {
+		for (CachePutRequest cachePutRequest : cachePutRequests) {
+			cachePutRequest.apply(cacheValue);
+		}
+	}
+
 	@Nullable
 	private Object wrapCacheValue(Method method, @Nullable Object cacheValue) {
 		if (method.getReturnType() == Optional.class &&
@@ -885,6 +992,17 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	/**
+	 * Internal holder class for a value being loaded by a given thread,
+	 * shared with concurrent invocations for the same keys.
+	 */
+	private static final class SharedLoad {
+
+		final Thread loader = Thread.currentThread();
+
+		final CompletableFuture<Object> result = new CompletableFuture<>();
+	}
+
 	/**
 	 * Internal holder class for recording that a cache method was invoked.
 	 */
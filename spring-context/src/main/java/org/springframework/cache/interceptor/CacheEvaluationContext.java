@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.context.expression.MethodParameterIndex;
 import org.springframework.core.ParameterNameDiscoverer;
 import org.springframework.lang.Nullable;
 
@@ -53,6 +54,12 @@ class CacheEvaluationContext extends MethodBasedEvaluationContext {
 		super(rootObject, method, arguments, parameterNameDiscoverer);
 	}
 
+	CacheEvaluationContext(Object rootObject, Method method, Object[] arguments,
+			MethodParameterIndex parameterIndex) {
+
+		super(rootObject, method, arguments, parameterIndex);
+	}
+
 
 	/**
 	 * Add the specified variable name as unavailable for that context.
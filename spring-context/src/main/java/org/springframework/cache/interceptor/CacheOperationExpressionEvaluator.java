@@ -28,6 +28,9 @@ import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.context.expression.CachedExpressionEvaluator;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.lang.Nullable;
 
 /**
@@ -61,6 +64,12 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 	public static final String RESULT_VARIABLE = "result";
 
 
+	/**
+	 * Parser for expressions referring to the result, which are not compiled.
+	 */
+	private final SpelExpressionParser resultExpressionParser =
+			new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.OFF, null));
+
 	private final Map<ExpressionKey, Expression> keyCache = new ConcurrentHashMap<>(64);
 
 	private final Map<ExpressionKey, Expression> conditionCache = new ConcurrentHashMap<>(64);
@@ -86,7 +95,8 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 		CacheExpressionRootObject rootObject = new CacheExpressionRootObject(
 				caches, method, args, target, targetClass);
 		CacheEvaluationContext evaluationContext = new CacheEvaluationContext(
-				rootObject, targetMethod, args, getParameterNameDiscoverer());
+				rootObject, targetMethod, args, getMethodParameterIndex(targetMethod));
+		applySharedResolvers(evaluationContext);
 		if (result == RESULT_UNAVAILABLE) {
 			evaluationContext.addUnavailableVariable(RESULT_VARIABLE);
 		}
@@ -114,6 +124,19 @@ class CacheOperationExpressionEvaluator extends CachedExpressionEvaluator {
 				evalContext, Boolean.class)));
 	}
 
+	/**
+	 * Parse expressions that refer to the result without compiling them: these
+	 * are evaluated with the result marked as unavailable before the method is
+	 * invoked, with every such evaluation failing in compiled mode.
+	 */
+	@Override
+	protected Expression parseExpression(String expression) {
+		if (expression.contains("#" + RESULT_VARIABLE)) {
+			return this.resultExpressionParser.parseExpression(expression);
+		}
+		return super.parseExpression(expression);
+	}
+
 	/**
 	 * Clear all caches.
 	 */
@@ -51,7 +51,8 @@ class EventExpressionEvaluator extends CachedExpressionEvaluator {
 
 		EventExpressionRootObject root = new EventExpressionRootObject(event, args);
 		MethodBasedEvaluationContext evaluationContext = new MethodBasedEvaluationContext(
-				root, targetMethod, args, getParameterNameDiscoverer());
+				root, targetMethod, args, getMethodParameterIndex(targetMethod));
+		applySharedResolvers(evaluationContext);
 		if (beanFactory != null) {
 			evaluationContext.setBeanResolver(new BeanFactoryResolver(beanFactory));
 		}
@@ -16,12 +16,25 @@
 
 package org.springframework.context.expression;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.core.SpringProperties;
 import org.springframework.expression.Expression;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
@@ -36,10 +49,21 @@ import org.springframework.util.ObjectUtils;
  */
 public abstract class CachedExpressionEvaluator {
 
+	private static final String COMPILER_MODE_PROPERTY_NAME = "spring.expression.compiler.mode";
+
+
 	private final SpelExpressionParser parser;
 
 	private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
 
+	private final Map<Method, MethodParameterIndex> parameterIndexCache = new ConcurrentHashMap<>(64);
+
+	private final List<PropertyAccessor> propertyAccessors =
+			Collections.singletonList(new ReflectivePropertyAccessor());
+
+	private final List<MethodResolver> methodResolvers =
+			Collections.singletonList(new ReflectiveMethodResolver());
+
 
 	/**
 	 * Create a new instance with the specified {@link SpelExpressionParser}.
@@ -51,9 +75,15 @@ public abstract class CachedExpressionEvaluator {
 
 	/**
 	 * Create a new instance with a default {@link SpelExpressionParser}.
+	 * <p>As of 5.3, expressions are compiled in {@link SpelCompilerMode#MIXED}
+	 * mode once they have been evaluated a number of times, unless a compiler
+	 * mode is configured through the "spring.expression.compiler.mode" property.
+	 * @see #parseExpression
 	 */
 	protected CachedExpressionEvaluator() {
-		this(new SpelExpressionParser());
+		this(new SpelExpressionParser(new SpelParserConfiguration(
+				(SpringProperties.getProperty(COMPILER_MODE_PROPERTY_NAME) == null ? SpelCompilerMode.MIXED : null),
+				null)));
 	}
 
 
@@ -72,6 +102,32 @@ public abstract class CachedExpressionEvaluator {
 		return this.parameterNameDiscoverer;
 	}
 
+	/**
+	 * Return the {@link MethodParameterIndex} for the given method, resolved
+	 * once and shared across the evaluation contexts for that method.
+	 * @param method the method whose arguments are exposed as variables
+	 * @since 5.3
+	 * @see MethodBasedEvaluationContext#MethodBasedEvaluationContext(Object, Method, Object[], MethodParameterIndex)
+	 */
+	protected MethodParameterIndex getMethodParameterIndex(Method method) {
+		return this.parameterIndexCache.computeIfAbsent(method,
+				key -> new MethodParameterIndex(key, this.parameterNameDiscoverer));
+	}
+
+	/**
+	 * Apply the property accessors and method resolvers that this evaluator
+	 * shares across its evaluation contexts to the given context.
+	 * <p>Since a new evaluation context is usually created for every evaluation,
+	 * this retains the reflective lookups cached by these components from one
+	 * evaluation to the next.
+	 * @param evaluationContext a newly created evaluation context
+	 * @since 5.3
+	 */
+	protected void applySharedResolvers(StandardEvaluationContext evaluationContext) {
+		evaluationContext.setPropertyAccessors(new ArrayList<>(this.propertyAccessors));
+		evaluationContext.setMethodResolvers(new ArrayList<>(this.methodResolvers));
+	}
+
 
 	/**
 	 * Return the {@link Expression} for the specified SpEL value
@@ -86,12 +142,25 @@ public abstract class CachedExpressionEvaluator {
 		ExpressionKey expressionKey = createKey(elementKey, expression);
 		Expression expr = cache.get(expressionKey);
 		if (expr == null) {
-			expr = getParser().parseExpression(expression);
+			expr = parseExpression(expression);
 			cache.put(expressionKey, expr);
 		}
 		return expr;
 	}
 
+	/**
+	 * Parse the given expression with the {@linkplain #getParser() parser}.
+	 * <p>Subclasses may override this to parse specific expressions differently,
+	 * e.g. to keep expressions from being compiled that are expected to fail
+	 * on a regular basis: a failing compiled expression reverts to interpreted
+	 * mode, only to be compiled again later on.
+	 * @param expression the expression to parse
+	 * @since 5.3
+	 */
+	protected Expression parseExpression(String expression) {
+		return getParser().parseExpression(expression);
+	}
+
 	private ExpressionKey createKey(AnnotatedElementKey elementKey, String expression) {
 		return new ExpressionKey(elementKey, expression);
 	}
@@ -45,8 +45,12 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 
 	private final Object[] arguments;
 
+	@Nullable
 	private final ParameterNameDiscoverer parameterNameDiscoverer;
 
+	@Nullable
+	private final MethodParameterIndex parameterIndex;
+
 	private boolean argumentsLoaded = false;
 
 
@@ -57,6 +61,28 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 		this.method = method;
 		this.arguments = arguments;
 		this.parameterNameDiscoverer = parameterNameDiscoverer;
+		this.parameterIndex = null;
+	}
+
+	/**
+	 * Create a context that looks up the method arguments through the given
+	 * index, without discovering parameter names or registering the arguments
+	 * as variables.
+	 * @param rootObject the root object
+	 * @param method the method being invoked
+	 * @param arguments the method arguments
+	 * @param parameterIndex the index of the parameters of the method,
+	 * typically shared across invocations of the method
+	 * @since 5.3
+	 */
+	public MethodBasedEvaluationContext(Object rootObject, Method method, Object[] arguments,
+			MethodParameterIndex parameterIndex) {
+
+		super(rootObject);
+		this.method = method;
+		this.arguments = arguments;
+		this.parameterNameDiscoverer = null;
+		this.parameterIndex = parameterIndex;
 	}
 
 
@@ -67,6 +93,9 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 		if (variable != null) {
 			return variable;
 		}
+		if (this.parameterIndex != null) {
+			return this.parameterIndex.getArgument(name, this.arguments);
+		}
 		if (!this.argumentsLoaded) {
 			lazyLoadArguments();
 			this.argumentsLoaded = true;
@@ -80,7 +109,7 @@ public class MethodBasedEvaluationContext extends StandardEvaluationContext {
 	 */
 	protected void lazyLoadArguments() {
 		// Shortcut if no args need to be loaded
-		if (ObjectUtils.isEmpty(this.arguments)) {
+		if (ObjectUtils.isEmpty(this.arguments) || this.parameterNameDiscoverer == null) {
 			return;
 		}
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.context.expression;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * The variable names under which the arguments of a method are exposed by a
+ * {@link MethodBasedEvaluationContext}, mapped to the index of the argument:
+ * {@code aX} and {@code pX} as well as the parameter names, if discoverable.
+ *
+ * <p>An index is resolved once per method and can be shared by all evaluation
+ * contexts for invocations of that method, which then look up arguments by
+ * index rather than discovering parameter names on every invocation.
+ *
+ * @since 5.3
+ * @see MethodBasedEvaluationContext#MethodBasedEvaluationContext(Object, Method, Object[], MethodParameterIndex)
+ */
+public final class MethodParameterIndex {
+
+	private final int parameterCount;
+
+	private final Map<String, Integer> indexes;
+
+
+	/**
+	 * Create an index for the parameters of the given method.
+	 * @param method the method to index
+	 * @param parameterNameDiscoverer the discoverer for the parameter names
+	 */
+	public MethodParameterIndex(Method method, ParameterNameDiscoverer parameterNameDiscoverer) {
+		Assert.notNull(method, "Method must not be null");
+		Assert.notNull(parameterNameDiscoverer, "ParameterNameDiscoverer must not be null");
+		String[] paramNames = parameterNameDiscoverer.getParameterNames(method);
+		this.parameterCount = (paramNames != null ? paramNames.length : method.getParameterCount());
+		this.indexes = new HashMap<>(this.parameterCount * 4);
+		for (int i = 0; i < this.parameterCount; i++) {
+			this.indexes.put("a" + i, i);
+			this.indexes.put("p" + i, i);
+			if (paramNames != null && paramNames[i] != null) {
+				this.indexes.put(paramNames[i], i);
+			}
+		}
+	}
+
+
+	/**
+	 * Return the value of the variable with the given name from the given
+	 * method arguments, or {@code null} if the name does not refer to an argument.
+	 * <p>If there are more arguments than parameters, the remaining arguments
+	 * are exposed as vararg array for the last parameter.
+	 * @param name the name of the variable
+	 * @param arguments the actual method arguments
+	 */
+	@Nullable
+	public Object getArgument(String name, Object[] arguments) {
+		Integer index = this.indexes.get(name);
+		if (index == null) {
+			return null;
+		}
+		int argsCount = arguments.length;
+		if (argsCount > this.parameterCount && index == this.parameterCount - 1) {
+			return Arrays.copyOfRange(arguments, index, argsCount);
+		}
+		return (argsCount > index ? arguments[index] : null);
+	}
+
+}
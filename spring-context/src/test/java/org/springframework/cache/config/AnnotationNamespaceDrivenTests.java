@@ -66,6 +66,18 @@ public class AnnotationNamespaceDrivenTests extends AbstractCacheAnnotationTests
 		context.close();
 	}
 
+	@Test
+	public void coalesceConcurrentMisses() {
+		CacheInterceptor ci = this.ctx.getBean(
+				"org.springframework.cache.interceptor.CacheInterceptor#0", CacheInterceptor.class);
+		assertThat(ci.isCoalesceConcurrentMisses()).isFalse();
+
+		ConfigurableApplicationContext context = new GenericXmlApplicationContext(
+				"/org/springframework/cache/config/annotationDrivenCacheNamespace-coalesce.xml");
+		assertThat(context.getBean(CacheInterceptor.class).isCoalesceConcurrentMisses()).isTrue();
+		context.close();
+	}
+
 	@Test
 	public void testCacheErrorHandler() {
 		CacheInterceptor ci = this.ctx.getBean(
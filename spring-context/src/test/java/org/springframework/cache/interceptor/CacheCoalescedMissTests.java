@@ -0,0 +1,172 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link CacheAspectSupport#setCoalesceConcurrentMisses(boolean)}.
+ */
+public class CacheCoalescedMissTests {
+
+	private ConfigurableApplicationContext context;
+
+	private SimpleService simpleService;
+
+	private ExecutorService executor;
+
+
+	@BeforeEach
+	public void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.simpleService = this.context.getBean(SimpleService.class);
+		this.executor = Executors.newFixedThreadPool(4);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.executor.shutdownNow();
+		this.context.close();
+	}
+
+
+	@Test
+	public void concurrentMissesInvokeMethodOnce() throws Exception {
+		Future<Long> first = this.executor.submit(() -> this.simpleService.get("key"));
+		assertThat(this.simpleService.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		List<Future<Long>> others = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			others.add(this.executor.submit(() -> this.simpleService.get("key")));
+		}
+		// Only let the first invocation complete once the others wait for its result
+		CompletableFuture<?> sharedResult = getSharedLoadResult();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (sharedResult.getNumberOfDependents() < 3 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(sharedResult.getNumberOfDependents()).isEqualTo(3);
+		this.simpleService.release.countDown();
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(0L);
+		for (Future<Long> other : others) {
+			assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo(0L);
+		}
+		assertThat(this.simpleService.invocations.get()).isEqualTo(1);
+		assertThat(this.simpleService.get("key")).isEqualTo(0L);
+	}
+
+	@Test
+	public void enabledThroughEnableCaching() {
+		assertThat(this.context.getBean(CacheInterceptor.class).isCoalesceConcurrentMisses()).isTrue();
+	}
+
+	@Test
+	public void missesForDifferentKeysAreNotCoalesced() throws Exception {
+		this.simpleService.release.countDown();
+		assertThat(this.simpleService.get("key1")).isEqualTo(0L);
+		assertThat(this.simpleService.get("key2")).isEqualTo(1L);
+		assertThat(this.simpleService.get("key1")).isEqualTo(0L);
+		assertThat(this.simpleService.invocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void failedLoadIsNotShared() {
+		this.simpleService.release.countDown();
+		assertThatIllegalStateException().isThrownBy(() -> this.simpleService.getOrFail("key"));
+		assertThat(this.simpleService.getOrFail("key")).isEqualTo(1L);
+		assertThat(this.simpleService.getOrFail("key")).isEqualTo(1L);
+	}
+
+	private CompletableFuture<?> getSharedLoadResult() {
+		CacheInterceptor interceptor = this.context.getBean(CacheInterceptor.class);
+		Map<?, ?> sharedLoads = (Map<?, ?>) new DirectFieldAccessor(interceptor).getPropertyValue("sharedLoads");
+		assertThat(sharedLoads).hasSize(1);
+		Object sharedLoad = sharedLoads.values().iterator().next();
+		return (CompletableFuture<?>) new DirectFieldAccessor(sharedLoad).getPropertyValue("result");
+	}
+
+
+	@Configuration
+	@EnableCaching(coalesceConcurrentMisses = true)
+	static class Config {
+
+		@Bean
+		public CacheManager cacheManager() {
+			return new ConcurrentMapCacheManager();
+		}
+
+		@Bean
+		public SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+
+	public static class SimpleService {
+
+		final AtomicInteger invocations = new AtomicInteger();
+
+		final CountDownLatch started = new CountDownLatch(1);
+
+		final CountDownLatch release = new CountDownLatch(1);
+
+		@Cacheable("test")
+		public Long get(String key) throws InterruptedException {
+			long value = this.invocations.getAndIncrement();
+			this.started.countDown();
+			this.release.await(5, TimeUnit.SECONDS);
+			return value;
+		}
+
+		@Cacheable("test")
+		public Long getOrFail(String key) {
+			long value = this.invocations.getAndIncrement();
+			if (value == 0) {
+				throw new IllegalStateException("Test exception");
+			}
+			return value;
+		}
+	}
+
+}
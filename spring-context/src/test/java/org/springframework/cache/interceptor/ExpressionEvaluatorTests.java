@@ -23,6 +23,7 @@ import java.util.Iterator;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.RootBeanDefinition;
@@ -33,6 +34,7 @@ import org.springframework.cache.concurrent.ConcurrentMapCache;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
@@ -124,6 +126,34 @@ public class ExpressionEvaluatorTests {
 			.satisfies(ex ->  assertThat(ex.getName()).isEqualTo("result"));
 	}
 
+	@Test
+	public void conditionWithUnavailableReturnValue() {
+		Method method = ReflectionUtils.findMethod(AnnotatedClass.class, "multipleCaching", Object.class, Object.class);
+		AnnotatedElementKey methodKey = new AnnotatedElementKey(method, AnnotatedClass.class);
+		EvaluationContext unavailableContext = createEvaluationContext(CacheOperationExpressionEvaluator.RESULT_UNAVAILABLE);
+		EvaluationContext context = createEvaluationContext("theResult");
+		// Evaluated with and without the result, as for a cache put condition
+		for (int i = 0; i < 200; i++) {
+			assertThatExceptionOfType(VariableNotAvailableException.class).isThrownBy(() ->
+					this.eval.condition("#result != null", methodKey, unavailableContext))
+				.satisfies(ex -> assertThat(ex.getName()).isEqualTo("result"));
+			assertThat(this.eval.condition("#result != null", methodKey, context)).isTrue();
+		}
+
+		// Not compiled since it would fail whenever the result is unavailable
+		Expression expression = this.eval.parseExpression("#result != null");
+		for (int i = 0; i < 200; i++) {
+			assertThat(expression.getValue(context)).isEqualTo(true);
+		}
+		assertThat(new DirectFieldAccessor(expression).getPropertyValue("compiledAst")).isNull();
+
+		expression = this.eval.parseExpression("#a0 != null");
+		for (int i = 0; i < 200; i++) {
+			assertThat(expression.getValue(context)).isEqualTo(true);
+		}
+		assertThat(new DirectFieldAccessor(expression).getPropertyValue("compiledAst")).isNotNull();
+	}
+
 	@Test
 	public void resolveBeanReference() {
 		StaticApplicationContext applicationContext = new StaticApplicationContext();
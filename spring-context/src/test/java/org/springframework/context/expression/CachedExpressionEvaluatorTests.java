@@ -22,8 +22,10 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.util.ReflectionUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -66,6 +68,41 @@ public class CachedExpressionEvaluatorTests {
 		assertThat(expressionEvaluator.testCache.size()).as("Cached expression should be based on type").isEqualTo(2);
 	}
 
+	@Test
+	public void cacheMethodParameterIndex() {
+		Method method = ReflectionUtils.findMethod(getClass(), "hasParsedExpression", String.class);
+		MethodParameterIndex parameterIndex = expressionEvaluator.getMethodParameterIndex(method);
+		assertThat(expressionEvaluator.getMethodParameterIndex(method)).isSameAs(parameterIndex);
+		assertThat(parameterIndex.getArgument("p0", new Object[] {"test"})).isEqualTo("test");
+	}
+
+	@Test
+	public void compileFrequentlyEvaluatedExpression() {
+		DefaultExpressionEvaluator defaultEvaluator = new DefaultExpressionEvaluator();
+		Method method = ReflectionUtils.findMethod(getClass(), "toString");
+		Expression expression = defaultEvaluator.getTestExpression("#root.length() > 2", method, getClass());
+		for (int i = 0; i < 200; i++) {
+			assertThat(expression.getValue("abc")).isEqualTo(true);
+		}
+		assertThat(new DirectFieldAccessor(expression).getPropertyValue("compiledAst"))
+				.as("Expression should have been compiled").isNotNull();
+	}
+
+	@Test
+	public void shareResolversAcrossEvaluationContexts() {
+		StandardEvaluationContext context1 = new StandardEvaluationContext();
+		StandardEvaluationContext context2 = new StandardEvaluationContext();
+		expressionEvaluator.applySharedResolvers(context1);
+		expressionEvaluator.applySharedResolvers(context2);
+		assertThat(context1.getPropertyAccessors()).isEqualTo(context2.getPropertyAccessors());
+		assertThat(context1.getMethodResolvers()).isEqualTo(context2.getMethodResolvers());
+
+		// Each context can still be customized on its own
+		context1.addPropertyAccessor(new MapAccessor());
+		assertThat(context1.getPropertyAccessors()).hasSize(2);
+		assertThat(context2.getPropertyAccessors()).hasSize(1);
+	}
+
 	private void hasParsedExpression(String expression) {
 		verify(expressionEvaluator.getParser(), times(1)).parseExpression(expression);
 	}
@@ -88,4 +125,14 @@ public class CachedExpressionEvaluatorTests {
 		}
 	}
 
+
+	private static class DefaultExpressionEvaluator extends CachedExpressionEvaluator {
+
+		private final Map<ExpressionKey, Expression> testCache = new ConcurrentHashMap<>();
+
+		public Expression getTestExpression(String expression, Method method, Class<?> type) {
+			return getExpression(this.testCache, new AnnotatedElementKey(method, type), expression);
+		}
+	}
+
 }
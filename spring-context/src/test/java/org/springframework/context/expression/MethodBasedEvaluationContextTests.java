@@ -125,6 +125,46 @@ public class MethodBasedEvaluationContextTests {
 		assertThat(context.lookupVariable("vararg")).isEqualTo(new Object[] {"hello", "hi"});
 	}
 
+	@Test
+	public void indexedArguments() {
+		Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", String.class, Boolean.class);
+		MethodParameterIndex parameterIndex = new MethodParameterIndex(method, this.paramDiscover);
+		MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(this, method,
+				new Object[] {"test", true}, parameterIndex);
+
+		assertThat(context.lookupVariable("a0")).isEqualTo("test");
+		assertThat(context.lookupVariable("p0")).isEqualTo("test");
+		assertThat(context.lookupVariable("foo")).isEqualTo("test");
+
+		assertThat(context.lookupVariable("a1")).isEqualTo(true);
+		assertThat(context.lookupVariable("p1")).isEqualTo(true);
+		assertThat(context.lookupVariable("flag")).isEqualTo(true);
+
+		assertThat(context.lookupVariable("a2")).isNull();
+		assertThat(context.lookupVariable("p2")).isNull();
+
+		// Explicit variables take precedence
+		context.setVariable("foo", "bar");
+		assertThat(context.lookupVariable("foo")).isEqualTo("bar");
+		assertThat(context.lookupVariable("a0")).isEqualTo("test");
+	}
+
+	@Test
+	public void indexedVarArgs() {
+		Method method = ReflectionUtils.findMethod(SampleMethods.class, "hello", Boolean.class, String[].class);
+		MethodParameterIndex parameterIndex = new MethodParameterIndex(method, this.paramDiscover);
+
+		MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(this, method,
+				new Object[] {null, "hello", "hi"}, parameterIndex);
+		assertThat(context.lookupVariable("flag")).isNull();
+		assertThat(context.lookupVariable("a1")).isEqualTo(new Object[] {"hello", "hi"});
+		assertThat(context.lookupVariable("vararg")).isEqualTo(new Object[] {"hello", "hi"});
+
+		context = new MethodBasedEvaluationContext(this, method, new Object[] {null}, parameterIndex);
+		assertThat(context.lookupVariable("p1")).isNull();
+		assertThat(context.lookupVariable("vararg")).isNull();
+	}
+
 	private MethodBasedEvaluationContext createEvaluationContext(Method method, Object... args) {
 		return new MethodBasedEvaluationContext(this, method, args, this.paramDiscover);
 	}
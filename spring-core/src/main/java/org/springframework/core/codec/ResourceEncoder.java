@@ -16,6 +16,7 @@
 
 package org.springframework.core.codec;
 
+import java.io.IOException;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
@@ -44,8 +45,17 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	 */
 	public static final int DEFAULT_BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
+	/**
+	 * The size of the regions that file resources are memory-mapped in.
+	 * @since 5.3
+	 * @see #setMappedReadThreshold(long)
+	 */
+	public static final int MAPPED_REGION_SIZE = 1024 * 1024;
+
 	private final int bufferSize;
 
+	private long mappedReadThreshold = -1;
+
 
 	public ResourceEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -58,6 +68,28 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum size of file resources to read through memory-mapped
+	 * {@link DataBuffer DataBuffers}, in regions of {@link #MAPPED_REGION_SIZE}
+	 * bytes, rather than by copying their content into allocated buffers.
+	 * <p>By default this is set to -1, i.e. resources are not memory-mapped.
+	 * @since 5.3
+	 * @see DataBufferUtils#readMapped(Resource, long, DataBufferFactory, int)
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		this.mappedReadThreshold = mappedReadThreshold;
+	}
+
+	/**
+	 * Return the minimum size of file resources to read through memory-mapped
+	 * {@link DataBuffer DataBuffers}.
+	 * @since 5.3
+	 */
+	public long getMappedReadThreshold() {
+		return this.mappedReadThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		Class<?> clazz = elementType.toClass();
@@ -72,7 +104,22 @@ public class ResourceEncoder extends AbstractSingleValueEncoder<Resource> {
 			String logPrefix = Hints.getLogPrefix(hints);
 			logger.debug(logPrefix + "Writing [" + resource + "]");
 		}
+		if (isMappedRead(resource, this.mappedReadThreshold)) {
+			return DataBufferUtils.readMapped(resource, 0, bufferFactory, MAPPED_REGION_SIZE);
+		}
 		return DataBufferUtils.read(resource, bufferFactory, this.bufferSize);
 	}
 
+	private static boolean isMappedRead(Resource resource, long threshold) {
+		if (threshold < 0 || !resource.isFile()) {
+			return false;
+		}
+		try {
+			return (resource.contentLength() >= threshold);
+		}
+		catch (IOException ex) {
+			return false;
+		}
+	}
+
 }
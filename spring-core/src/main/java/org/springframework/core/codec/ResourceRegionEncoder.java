@@ -58,6 +58,8 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 
 	private final int bufferSize;
 
+	private long mappedReadThreshold = -1;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +71,30 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+
+	/**
+	 * Set the minimum size of regions of file resources to read through
+	 * memory-mapped {@link DataBuffer DataBuffers}, in regions of
+	 * {@link ResourceEncoder#MAPPED_REGION_SIZE} bytes, rather than by copying
+	 * their content into allocated buffers.
+	 * <p>By default this is set to -1, i.e. resources are not memory-mapped.
+	 * @since 5.3
+	 * @see DataBufferUtils#readMapped(Resource, long, DataBufferFactory, int)
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		this.mappedReadThreshold = mappedReadThreshold;
+	}
+
+	/**
+	 * Return the minimum size of regions of file resources to read through
+	 * memory-mapped {@link DataBuffer DataBuffers}.
+	 * @since 5.3
+	 */
+	public long getMappedReadThreshold() {
+		return this.mappedReadThreshold;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType)
@@ -129,7 +155,13 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
-		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		Flux<DataBuffer> in;
+		if (this.mappedReadThreshold >= 0 && count >= this.mappedReadThreshold && resource.isFile()) {
+			in = DataBufferUtils.readMapped(resource, position, bufferFactory, ResourceEncoder.MAPPED_REGION_SIZE);
+		}
+		else {
+			in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
+		}
 		return DataBufferUtils.takeUntilByteCount(in, count);
 	}
 
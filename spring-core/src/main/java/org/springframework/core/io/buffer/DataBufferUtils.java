@@ -21,10 +21,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -233,6 +235,67 @@ public abstract class DataBufferUtils {
 		return position == 0 ? result : skipUntilByteCount(result, position);
 	}
 
+	/**
+	 * Obtain a {@code FileChannel} from the given supplier, and map its
+	 * content into a {@code Flux} of {@code DataBuffer}s, starting at the given
+	 * position. Each data buffer {@linkplain DataBufferFactory#wrap(ByteBuffer)
+	 * wraps} a read-only {@link java.nio.MappedByteBuffer} region of at most
+	 * {@code regionSize} bytes, so that the file content is not copied into
+	 * allocated buffers. Closes the channel when the Flux is terminated.
+	 * <p>Note that mapped regions are only unmapped once garbage collected,
+	 * and that the file should not be truncated while the data buffers are
+	 * in use. This is therefore best suited for large files with a region
+	 * size in the order of megabytes.
+	 * @param channelSupplier the supplier for the channel to map
+	 * @param position the position to start mapping from
+	 * @param bufferFactory the factory to wrap mapped regions with
+	 * @param regionSize the maximum size of the mapped regions
+	 * @return a Flux of data buffers mapped from the given channel
+	 * @since 5.3
+	 */
+	public static Flux<DataBuffer> readMappedFileChannel(
+			Callable<FileChannel> channelSupplier, long position, DataBufferFactory bufferFactory, int regionSize) {
+
+		Assert.notNull(channelSupplier, "'channelSupplier' must not be null");
+		Assert.notNull(bufferFactory, "'dataBufferFactory' must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(regionSize > 0, "'regionSize' must be > 0");
+
+		return Flux.using(channelSupplier,
+				channel -> Flux.generate(new MappedFileChannelGenerator(channel, position, bufferFactory, regionSize)),
+				DataBufferUtils::closeChannel);
+	}
+
+	/**
+	 * Read the given {@code Resource} into a {@code Flux} of memory-mapped
+	 * {@code DataBuffer}s, starting at the given position.
+	 * <p>If the resource is a file, it is mapped via
+	 * {@link #readMappedFileChannel(Callable, long, DataBufferFactory, int)},
+	 * or else read via {@link #read(Resource, long, DataBufferFactory, int)}
+	 * using the region size as buffer size.
+	 * @param resource the resource to read from
+	 * @param position the position to start reading from
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param regionSize the maximum size of the mapped regions
+	 * @return a Flux of data buffers read from the given resource
+	 * @since 5.3
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Resource resource, long position, DataBufferFactory bufferFactory, int regionSize) {
+
+		try {
+			if (resource.isFile()) {
+				File file = resource.getFile();
+				return readMappedFileChannel(() -> FileChannel.open(file.toPath(), StandardOpenOption.READ),
+						position, bufferFactory, regionSize);
+			}
+		}
+		catch (IOException ignore) {
+			// fallback to read(Resource), below
+		}
+		return read(resource, position, bufferFactory, regionSize);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -374,6 +437,80 @@ public abstract class DataBufferUtils {
 		});
 	}
 
+	/**
+	 * Transfer the content of the given source file to the given
+	 * {@code WritableByteChannel} via {@link FileChannel#transferTo}, which
+	 * allows the operating system to send the content without copying it
+	 * through the JVM heap, e.g. with {@code sendfile} for socket channels.
+	 * Does <strong>not</strong> close the destination channel.
+	 * <p>Note that the transfer blocks the thread that subscribes to the
+	 * returned {@code Mono}, and that the destination channel is expected
+	 * to be in blocking mode: the transfer fails if no bytes are accepted.
+	 * @param source the path to the file to transfer
+	 * @param destination the channel to transfer to
+	 * @return a {@link Mono} that indicates completion or error
+	 * @since 5.3
+	 */
+	public static Mono<Void> transferTo(Path source, WritableByteChannel destination) {
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(destination, "Destination must not be null");
+
+		return Mono.fromCallable(() -> {
+			try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+				transferAll(channel, destination);
+			}
+			return null;
+		}).then();
+	}
+
+	/**
+	 * Transfer the content of the given source file to the given destination
+	 * file via {@link FileChannel#transferTo}. The optional {@code options}
+	 * parameter specifies how the destination file is created or opened (defaults to
+	 * {@link StandardOpenOption#CREATE CREATE},
+	 * {@link StandardOpenOption#TRUNCATE_EXISTING TRUNCATE_EXISTING}, and
+	 * {@link StandardOpenOption#WRITE WRITE}).
+	 * <p>Note that the transfer blocks the thread that subscribes to the
+	 * returned {@code Mono}.
+	 * @param source the path to the file to transfer
+	 * @param destination the path to the file to transfer to
+	 * @param options the options specifying how the destination file is opened
+	 * @return a {@link Mono} that indicates completion or error
+	 * @since 5.3
+	 */
+	public static Mono<Void> transferTo(Path source, Path destination, OpenOption... options) {
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(destination, "Destination must not be null");
+
+		Set<OpenOption> optionSet = checkWriteOptions(options);
+
+		return Mono.fromCallable(() -> {
+			try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ);
+					FileChannel destinationChannel = FileChannel.open(destination, optionSet)) {
+				transferAll(channel, destinationChannel);
+			}
+			return null;
+		}).then();
+	}
+
+	private static void transferAll(FileChannel source, WritableByteChannel destination) throws IOException {
+		long position = 0;
+		long size = source.size();
+		while (position < size) {
+			long transferred = source.transferTo(position, size - position, destination);
+			if (transferred <= 0) {
+				if (position >= source.size()) {
+					// source truncated in the meantime
+					break;
+				}
+				// e.g. a non-blocking destination that cannot accept more bytes
+				throw new IOException("No bytes transferred to " + destination +
+						" at position " + position + " of " + size);
+			}
+			position += transferred;
+		}
+	}
+
 	private static Set<OpenOption> checkWriteOptions(OpenOption[] options) {
 		int length = options.length;
 		Set<OpenOption> result = new HashSet<>(length + 3);
@@ -671,6 +808,46 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private final FileChannel channel;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int regionSize;
+
+		private long position;
+
+		public MappedFileChannelGenerator(
+				FileChannel channel, long position, DataBufferFactory dataBufferFactory, int regionSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.dataBufferFactory = dataBufferFactory;
+			this.regionSize = regionSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				long remaining = this.channel.size() - this.position;
+				if (remaining > 0) {
+					long size = Math.min(remaining, this.regionSize);
+					MappedByteBuffer region = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+					this.position += size;
+					sink.next(this.dataBufferFactory.wrap(region));
+				}
+				else {
+					sink.complete();
+				}
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadCompletionHandler implements CompletionHandler<Integer, DataBuffer> {
 
 		private final AsynchronousFileChannel channel;
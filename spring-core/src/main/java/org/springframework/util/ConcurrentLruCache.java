@@ -17,17 +17,28 @@
 package org.springframework.util;
 
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
+import org.springframework.lang.Nullable;
+
 /**
  * Simple LRU (Least Recently Used) cache, bounded by a specified cache limit.
  *
  * <p>This implementation is backed by a {@code ConcurrentHashMap} for storing
- * the cached values and a {@code ConcurrentLinkedDeque} for ordering the keys
- * and choosing the least recently used key when the cache is at full capacity.
+ * the cached values and a doubly-linked list for ordering the entries and
+ * choosing the least recently used entry when the cache is at full capacity.
+ * Reads do not update the list directly: they are recorded in lock-free
+ * buffers that are drained in batches while holding the eviction lock, so
+ * that cache hits neither block nor contend on a shared lock. All operations
+ * on the list take constant time.
+ *
+ * <p>Values are generated outside of any lock, so concurrent misses for
+ * the same key may invoke the generator function more than once; only the
+ * first value is retained in the cache.
  *
  * @author Brian Clozel
  * @author Juergen Hoeller
@@ -42,11 +53,19 @@ public class ConcurrentLruCache<K, V> {
 
 	private final Function<K, V> generator;
 
-	private final ConcurrentHashMap<K, V> cache = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<K, Node<K, V>> cache = new ConcurrentHashMap<>();
+
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final EvictionQueue<K, V> evictionQueue = new EvictionQueue<>();
 
-	private final ConcurrentLinkedDeque<K> queue = new ConcurrentLinkedDeque<>();
+	private final ReadOperations<K, V> readOperations = new ReadOperations<>(this.evictionQueue);
 
-	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final LongAdder hitCount = new LongAdder();
+
+	private final LongAdder missCount = new LongAdder();
+
+	private final LongAdder evictionCount = new LongAdder();
 
 	private volatile int size;
 
@@ -64,6 +83,20 @@ public class ConcurrentLruCache<K, V> {
 		this.generator = generator;
 	}
 
+	/**
+	 * Create a new cache instance with the given limit, to be populated
+	 * through {@link #putIfAbsent} rather than through a generator function.
+	 * @param sizeLimit the maximum number of entries in the cache
+	 * (0 indicates no caching)
+	 * @since 5.3
+	 * @see #getIfPresent
+	 */
+	public ConcurrentLruCache(int sizeLimit) {
+		this(sizeLimit, key -> {
+			throw new IllegalStateException("No generator function for cache key [" + key + "]");
+		});
+	}
+
 
 	/**
 	 * Retrieve an entry from the cache, potentially triggering generation
@@ -73,53 +106,96 @@ public class ConcurrentLruCache<K, V> {
 	 */
 	public V get(K key) {
 		if (this.sizeLimit == 0) {
+			this.missCount.increment();
 			return this.generator.apply(key);
 		}
 
-		V cached = this.cache.get(key);
-		if (cached != null) {
-			if (this.size < this.sizeLimit) {
-				return cached;
-			}
-			this.lock.readLock().lock();
+		Node<K, V> node = this.cache.get(key);
+		if (node != null) {
+			this.hitCount.increment();
+			recordRead(node);
+			return node.value;
+		}
+
+		this.missCount.increment();
+		V value = this.generator.apply(key);
+		Node<K, V> newNode = new Node<>(key, value);
+		Node<K, V> existing = this.cache.putIfAbsent(key, newNode);
+		if (existing != null) {
+			// Generated concurrently by another thread: keep the existing entry
+			recordRead(existing);
+			return existing.value;
+		}
+		recordWrite(newNode);
+		return value;
+	}
+
+	/**
+	 * Retrieve an entry from the cache, without generating a value if
+	 * there is none.
+	 * @param key the key to retrieve the entry for
+	 * @return the cached value, or {@code null} if none
+	 * @since 5.3
+	 */
+	@Nullable
+	public V getIfPresent(K key) {
+		Node<K, V> node = this.cache.get(key);
+		if (node == null) {
+			return null;
+		}
+		this.hitCount.increment();
+		recordRead(node);
+		return node.value;
+	}
+
+	/**
+	 * Add an entry to the cache unless there is one for the given key
+	 * already, for values that are not produced by the generator function.
+	 * @param key the key to add the entry for
+	 * @param value the value to cache
+	 * @since 5.3
+	 */
+	public void putIfAbsent(K key, V value) {
+		if (this.sizeLimit == 0) {
+			return;
+		}
+		Node<K, V> newNode = new Node<>(key, value);
+		if (this.cache.putIfAbsent(key, newNode) == null) {
+			recordWrite(newNode);
+		}
+	}
+
+	private void recordRead(Node<K, V> node) {
+		boolean drainRequired = this.readOperations.recordRead(node);
+		if (drainRequired && this.evictionLock.tryLock()) {
 			try {
-				if (this.queue.removeLastOccurrence(key)) {
-					this.queue.offer(key);
-				}
-				return cached;
+				this.readOperations.drainAll();
 			}
 			finally {
-				this.lock.readLock().unlock();
+				this.evictionLock.unlock();
 			}
 		}
+	}
 
-		this.lock.writeLock().lock();
+	private void recordWrite(Node<K, V> node) {
+		this.evictionLock.lock();
 		try {
-			// Retrying in case of concurrent reads on the same key
-			cached = this.cache.get(key);
-			if (cached != null) {
-				if (this.queue.removeLastOccurrence(key)) {
-					this.queue.offer(key);
+			this.readOperations.drainAll();
+			this.evictionQueue.add(node);
+			int cacheSize = this.size + 1;
+			while (cacheSize > this.sizeLimit) {
+				Node<K, V> leastUsed = this.evictionQueue.poll();
+				if (leastUsed == null) {
+					break;
 				}
-				return cached;
+				this.cache.remove(leastUsed.key, leastUsed);
+				this.evictionCount.increment();
+				cacheSize--;
 			}
-			// Generate value first, to prevent size inconsistency
-			V value = this.generator.apply(key);
-			int cacheSize = this.size;
-			if (cacheSize == this.sizeLimit) {
-				K leastUsed = this.queue.poll();
-				if (leastUsed != null) {
-					this.cache.remove(leastUsed);
-					cacheSize--;
-				}
-			}
-			this.queue.offer(key);
-			this.cache.put(key, value);
-			this.size = cacheSize + 1;
-			return value;
+			this.size = cacheSize;
 		}
 		finally {
-			this.lock.writeLock().unlock();
+			this.evictionLock.unlock();
 		}
 	}
 
@@ -140,4 +216,211 @@ public class ConcurrentLruCache<K, V> {
 		return this.sizeLimit;
 	}
 
+	/**
+	 * Return the number of {@link #get} and {@link #getIfPresent} calls
+	 * that returned a cached value.
+	 * @since 5.3
+	 */
+	public long hitCount() {
+		return this.hitCount.sum();
+	}
+
+	/**
+	 * Return the number of {@link #get} calls that generated a new value.
+	 * @since 5.3
+	 */
+	public long missCount() {
+		return this.missCount.sum();
+	}
+
+	/**
+	 * Return the number of entries that were evicted because the cache
+	 * reached its size limit.
+	 * @since 5.3
+	 */
+	public long evictionCount() {
+		return this.evictionCount.sum();
+	}
+
+
+	/**
+	 * Cache entry, also serving as a node of the {@link EvictionQueue}.
+	 */
+	private static final class Node<K, V> {
+
+		final K key;
+
+		final V value;
+
+		@Nullable
+		Node<K, V> prev;
+
+		@Nullable
+		Node<K, V> next;
+
+		Node(K key, V value) {
+			this.key = key;
+			this.value = value;
+		}
+	}
+
+
+	/**
+	 * Doubly-linked list of cache entries, ordered from least recently used
+	 * to most recently used. Not thread-safe: guarded by the eviction lock.
+	 */
+	private static final class EvictionQueue<K, V> {
+
+		@Nullable
+		private Node<K, V> first;
+
+		@Nullable
+		private Node<K, V> last;
+
+		void add(Node<K, V> node) {
+			Node<K, V> last = this.last;
+			this.last = node;
+			if (last == null) {
+				this.first = node;
+			}
+			else {
+				last.next = node;
+				node.prev = last;
+			}
+		}
+
+		@Nullable
+		Node<K, V> poll() {
+			Node<K, V> first = this.first;
+			if (first != null) {
+				unlink(first);
+			}
+			return first;
+		}
+
+		void moveToBack(Node<K, V> node) {
+			if (!contains(node) || node == this.last) {
+				return;
+			}
+			unlink(node);
+			add(node);
+		}
+
+		private boolean contains(Node<K, V> node) {
+			return (node.prev != null || node.next != null || node == this.first);
+		}
+
+		private void unlink(Node<K, V> node) {
+			Node<K, V> prev = node.prev;
+			Node<K, V> next = node.next;
+			if (prev == null) {
+				this.first = next;
+			}
+			else {
+				prev.next = next;
+				node.prev = null;
+			}
+			if (next == null) {
+				this.last = prev;
+			}
+			else {
+				next.prev = prev;
+				node.next = null;
+			}
+		}
+	}
+
+
+	/**
+	 * Striped, lossy ring buffers recording cache hits without locking,
+	 * replayed against the {@link EvictionQueue} in batches.
+	 */
+	private static final class ReadOperations<K, V> {
+
+		private static final int BUFFER_COUNT = detectNumberOfBuffers();
+
+		private static final int BUFFERS_MASK = BUFFER_COUNT - 1;
+
+		private static final int BUFFER_SIZE = 128;
+
+		private static final int BUFFER_INDEX_MASK = BUFFER_SIZE - 1;
+
+		/** Number of pending reads in a buffer that triggers a drain. */
+		private static final int MAX_PENDING_OPERATIONS = 32;
+
+		/** Maximum number of reads replayed per buffer and drain. */
+		private static final int MAX_DRAIN_COUNT = 2 * MAX_PENDING_OPERATIONS;
+
+		private final EvictionQueue<K, V> evictionQueue;
+
+		private final AtomicLongArray recordedCount = new AtomicLongArray(BUFFER_COUNT);
+
+		private final AtomicLongArray processedCount = new AtomicLongArray(BUFFER_COUNT);
+
+		/** Guarded by the eviction lock. */
+		private final long[] readCount = new long[BUFFER_COUNT];
+
+		@SuppressWarnings("unchecked")
+		private final AtomicReferenceArray<Node<K, V>>[] buffers = new AtomicReferenceArray[BUFFER_COUNT];
+
+		ReadOperations(EvictionQueue<K, V> evictionQueue) {
+			this.evictionQueue = evictionQueue;
+			for (int i = 0; i < BUFFER_COUNT; i++) {
+				this.buffers[i] = new AtomicReferenceArray<>(BUFFER_SIZE);
+			}
+		}
+
+		private static int detectNumberOfBuffers() {
+			int availableProcessors = Runtime.getRuntime().availableProcessors();
+			int nextPowerOfTwo = 1 << (Integer.SIZE - Integer.numberOfLeadingZeros(availableProcessors - 1));
+			return Math.min(4, nextPowerOfTwo);
+		}
+
+		private static int getBufferIndex() {
+			return ((int) Thread.currentThread().getId()) & BUFFERS_MASK;
+		}
+
+		/**
+		 * Record a read of the given node.
+		 * @return whether the buffer has enough pending reads to be drained
+		 */
+		boolean recordRead(Node<K, V> node) {
+			int bufferIndex = getBufferIndex();
+			long writeCount = this.recordedCount.get(bufferIndex);
+			this.recordedCount.lazySet(bufferIndex, writeCount + 1);
+			int index = (int) (writeCount & BUFFER_INDEX_MASK);
+			this.buffers[bufferIndex].lazySet(index, node);
+			long pending = (writeCount - this.processedCount.get(bufferIndex));
+			return (pending >= MAX_PENDING_OPERATIONS);
+		}
+
+		/**
+		 * Replay the recorded reads of all buffers. Must be called while
+		 * holding the eviction lock.
+		 */
+		void drainAll() {
+			int start = getBufferIndex();
+			int end = start + BUFFER_COUNT;
+			for (int i = start; i < end; i++) {
+				drainReadBuffer(i & BUFFERS_MASK);
+			}
+		}
+
+		private void drainReadBuffer(int bufferIndex) {
+			long writeCount = this.recordedCount.get(bufferIndex);
+			AtomicReferenceArray<Node<K, V>> buffer = this.buffers[bufferIndex];
+			for (int i = 0; i < MAX_DRAIN_COUNT; i++) {
+				int index = (int) (this.readCount[bufferIndex] & BUFFER_INDEX_MASK);
+				Node<K, V> node = buffer.get(index);
+				if (node == null) {
+					break;
+				}
+				buffer.lazySet(index, null);
+				this.evictionQueue.moveToBack(node);
+				this.readCount[bufferIndex]++;
+			}
+			this.processedCount.lazySet(bufferIndex, writeCount);
+		}
+	}
+
 }
@@ -21,10 +21,12 @@ import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import org.springframework.core.ResolvableType;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.buffer.DataBuffer;
@@ -74,6 +76,20 @@ class ResourceEncoderTests extends AbstractEncoderTests<ResourceEncoder> {
 				.verifyComplete());
 	}
 
+	@Test
+	void encodeMappedFileResource() {
+		ResourceEncoder encoder = new ResourceEncoder();
+		encoder.setMappedReadThreshold(0);
+		Resource resource = new ClassPathResource("ResourceRegionEncoderTests.txt", getClass());
+
+		Flux<DataBuffer> result = encoder.encode(Mono.just(resource), this.bufferFactory,
+				ResolvableType.forClass(Resource.class), null, null);
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectBytes("Spring Framework test resource content.".getBytes(UTF_8)))
+				.verifyComplete();
+	}
+
 	@Override
 	protected void testEncodeError(Publisher<?> input, ResolvableType outputType,
 			@Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
@@ -77,6 +77,22 @@ class ResourceRegionEncoderTests extends AbstractLeakCheckingTests {
 				.verify();
 	}
 
+	@Test
+	void shouldEncodeMappedResourceRegionFileResource() {
+		this.encoder.setMappedReadThreshold(0);
+		ResourceRegion region = new ResourceRegion(
+				new ClassPathResource("ResourceRegionEncoderTests.txt", getClass()), 7, 9);
+		Flux<DataBuffer> result = this.encoder.encode(Mono.just(region), this.bufferFactory,
+				ResolvableType.forClass(ResourceRegion.class),
+				MimeTypeUtils.APPLICATION_OCTET_STREAM,
+				Collections.emptyMap());
+
+		StepVerifier.create(result)
+				.consumeNextWith(stringConsumer("Framework"))
+				.expectComplete()
+				.verify();
+	}
+
 	@Test
 	void shouldEncodeMultipleResourceRegionsFileResource() {
 		Resource resource = new ClassPathResource("ResourceRegionEncoderTests.txt", getClass());
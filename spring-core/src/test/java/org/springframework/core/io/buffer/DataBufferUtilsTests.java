@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
 import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.Test;
 import org.mockito.stubbing.Answer;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
@@ -249,6 +250,29 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedFileChannel(String displayName, DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		URI uri = this.resource.getURI();
+		Flux<DataBuffer> flux = DataBufferUtils.readMappedFileChannel(
+				() -> FileChannel.open(Paths.get(uri), StandardOpenOption.READ), 0, super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedResourcePosition(String displayName, DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(this.resource, 9, super.bufferFactory, 3);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(stringConsumer("qux"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
 	private void verifyReadData(Flux<DataBuffer> buffers) {
 		StepVerifier.create(buffers)
 				.consumeNextWith(stringConsumer("foo"))
@@ -543,6 +567,40 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 		assertThat(written).contains("foobar");
 	}
 
+	@Test
+	void transferToWritableByteChannel() throws Exception {
+		Path source = this.resource.getFile().toPath();
+		WritableByteChannel channel = Files.newByteChannel(tempFile, StandardOpenOption.WRITE);
+
+		StepVerifier.create(DataBufferUtils.transferTo(source, channel))
+				.verifyComplete();
+		channel.close();
+
+		assertThat(Files.readAllLines(tempFile)).contains("foobarbazqux");
+	}
+
+	@Test
+	void transferToWritableByteChannelWithoutProgress() throws Exception {
+		Path source = this.resource.getFile().toPath();
+		WritableByteChannel channel = mock(WritableByteChannel.class);
+		given(channel.isOpen()).willReturn(true);
+		given(channel.write(any())).willReturn(0);
+
+		StepVerifier.create(DataBufferUtils.transferTo(source, channel))
+				.expectError(IOException.class)
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@Test
+	void transferToPath() throws Exception {
+		Path source = this.resource.getFile().toPath();
+
+		StepVerifier.create(DataBufferUtils.transferTo(source, tempFile))
+				.verifyComplete();
+
+		assertThat(Files.readAllLines(tempFile)).contains("foobarbazqux");
+	}
+
 	@ParameterizedDataBufferAllocatingTest
 	void readAndWriteByteChannel(String displayName, DataBufferFactory bufferFactory) throws Exception {
 		super.bufferFactory = bufferFactory;
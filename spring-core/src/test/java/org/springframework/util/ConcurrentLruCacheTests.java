@@ -0,0 +1,125 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Unit tests for {@link ConcurrentLruCache}.
+ */
+class ConcurrentLruCacheTests {
+
+	private final AtomicInteger generatorCount = new AtomicInteger();
+
+	private final ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> {
+		this.generatorCount.incrementAndGet();
+		return key + "1";
+	});
+
+
+	@Test
+	void getAndSize() {
+		assertThat(this.cache.sizeLimit()).isEqualTo(2);
+		assertThat(this.cache.size()).isEqualTo(0);
+		assertThat(this.cache.get("k1")).isEqualTo("k11");
+		assertThat(this.cache.size()).isEqualTo(1);
+		assertThat(this.cache.get("k1")).isEqualTo("k11");
+		assertThat(this.cache.size()).isEqualTo(1);
+		assertThat(this.cache.get("k2")).isEqualTo("k21");
+		assertThat(this.cache.size()).isEqualTo(2);
+		assertThat(this.cache.get("k3")).isEqualTo("k31");
+		assertThat(this.cache.size()).isEqualTo(2);
+		assertThat(this.generatorCount.get()).isEqualTo(3);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsed() {
+		this.cache.get("k1");
+		this.cache.get("k2");
+		this.cache.get("k1");
+		this.cache.get("k3");
+		assertThat(this.generatorCount.get()).isEqualTo(3);
+
+		// k2 was the least recently used entry
+		this.cache.get("k1");
+		this.cache.get("k3");
+		assertThat(this.generatorCount.get()).isEqualTo(3);
+		this.cache.get("k2");
+		assertThat(this.generatorCount.get()).isEqualTo(4);
+	}
+
+	@Test
+	void statistics() {
+		this.cache.get("k1");
+		this.cache.get("k1");
+		this.cache.get("k2");
+		this.cache.get("k3");
+		this.cache.get("k3");
+		assertThat(this.cache.hitCount()).isEqualTo(2);
+		assertThat(this.cache.missCount()).isEqualTo(3);
+		assertThat(this.cache.evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void zeroSizeLimitAlwaysGenerates() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(0, key -> key + "1");
+		assertThat(cache.get("k1")).isEqualTo("k11");
+		assertThat(cache.get("k1")).isEqualTo("k11");
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.missCount()).isEqualTo(2);
+		assertThat(cache.hitCount()).isEqualTo(0);
+	}
+
+	@Test
+	void getIfPresentAndPutIfAbsent() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2);
+		assertThat(cache.getIfPresent("k1")).isNull();
+		assertThat(cache.size()).isEqualTo(0);
+
+		cache.putIfAbsent("k1", "v1");
+		cache.putIfAbsent("k1", "v2");
+		assertThat(cache.getIfPresent("k1")).isEqualTo("v1");
+		assertThat(cache.size()).isEqualTo(1);
+
+		cache.putIfAbsent("k2", "v2");
+		assertThat(cache.getIfPresent("k1")).isEqualTo("v1");
+		cache.putIfAbsent("k3", "v3");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.getIfPresent("k2")).isNull();
+		assertThat(cache.getIfPresent("k1")).isEqualTo("v1");
+		assertThat(cache.hitCount()).isEqualTo(3);
+		assertThat(cache.missCount()).isEqualTo(0);
+		assertThat(cache.evictionCount()).isEqualTo(1);
+		assertThatIllegalStateException().isThrownBy(() -> cache.get("k4"));
+	}
+
+	@Test
+	void manyReadsKeepSizeLimit() {
+		ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(16, key -> key);
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(cache.get(i % 64)).isEqualTo(i % 64);
+			assertThat(cache.get(i % 8)).isEqualTo(i % 8);
+		}
+		assertThat(cache.size()).isEqualTo(16);
+	}
+
+}
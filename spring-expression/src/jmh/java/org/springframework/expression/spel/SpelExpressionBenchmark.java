@@ -0,0 +1,201 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.expression.spel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ParserContext;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+
+/**
+ * Benchmarks for the evaluation of SpEL expressions, interpreted as well as
+ * compiled, against a {@link StandardEvaluationContext} and a
+ * {@link SimpleEvaluationContext}.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class SpelExpressionBenchmark {
+
+	@Benchmark
+	public void propertyNavigation(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.propertyNavigation.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void methodInvocation(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.methodInvocation.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void mapIndexer(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.mapIndexer.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void listIndexer(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.listIndexer.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void selection(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.selection.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void projection(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.projection.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void template(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.template.getValue(state.context, state.customer));
+	}
+
+	@Benchmark
+	public void cacheKey(BenchmarkState state, Blackhole bh) {
+		bh.consume(state.cacheKey.getValue(state.context, state.customer));
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"OFF", "IMMEDIATE", "MIXED"})
+		public SpelCompilerMode compilerMode;
+
+		@Param({"standard", "simple"})
+		public String contextType;
+
+		Customer customer;
+
+		EvaluationContext context;
+
+		Expression propertyNavigation;
+
+		Expression methodInvocation;
+
+		Expression mapIndexer;
+
+		Expression listIndexer;
+
+		Expression selection;
+
+		Expression projection;
+
+		Expression template;
+
+		Expression cacheKey;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.customer = new Customer();
+			if ("simple".equals(this.contextType)) {
+				this.context = SimpleEvaluationContext.forReadOnlyDataBinding().withInstanceMethods().build();
+			}
+			else {
+				this.context = new StandardEvaluationContext();
+			}
+			// As used for cache keys, with the method arguments exposed as variables
+			this.context.setVariable("customer", this.customer);
+			this.context.setVariable("region", "EU");
+
+			SpelExpressionParser parser = new SpelExpressionParser(
+					new SpelParserConfiguration(this.compilerMode, getClass().getClassLoader()));
+			this.propertyNavigation = parser.parseExpression("address.city");
+			this.methodInvocation = parser.parseExpression("name.substring(1, 4)");
+			this.mapIndexer = parser.parseExpression("attributes['tier']");
+			this.listIndexer = parser.parseExpression("orders[1].total");
+			this.selection = parser.parseExpression("orders.?[total > 100]");
+			this.projection = parser.parseExpression("orders.![total]");
+			this.template = parser.parseExpression(
+					"Customer #{name} from #{address.city}", ParserContext.TEMPLATE_EXPRESSION);
+			this.cacheKey = parser.parseExpression("#customer.name + ':' + #region");
+		}
+	}
+
+
+	public static class Customer {
+
+		private final String name = "Jane Doe";
+
+		private final Address address = new Address();
+
+		private final Map<String, String> attributes = new HashMap<>();
+
+		private final List<Order> orders = Arrays.asList(new Order(50), new Order(150), new Order(250));
+
+		public Customer() {
+			this.attributes.put("tier", "gold");
+			this.attributes.put("channel", "web");
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public Address getAddress() {
+			return this.address;
+		}
+
+		public Map<String, String> getAttributes() {
+			return this.attributes;
+		}
+
+		public List<Order> getOrders() {
+			return this.orders;
+		}
+	}
+
+
+	public static class Address {
+
+		public String getCity() {
+			return "Paris";
+		}
+	}
+
+
+	public static class Order {
+
+		private final int total;
+
+		public Order(int total) {
+			this.total = total;
+		}
+
+		public int getTotal() {
+			return this.total;
+		}
+	}
+
+}
@@ -85,9 +85,17 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * When code generation requires an intermediate variable within a method,
-	 * this method records the next available variable (variable 0 is 'this').
+	 * this method records the next available variable (variable 0 is 'this',
+	 * variables 1 and 2 are the target and the evaluation context).
 	 */
-	private int nextFreeVariableId = 1;
+	private int nextFreeVariableId = 3;
+
+	/**
+	 * Local variables holding the element currently being processed by an
+	 * enclosing selection or projection, which then replaces the target as
+	 * the active context object.
+	 */
+	private final Deque<Integer> activeContextVariables = new ArrayDeque<>();
 
 
 	/**
@@ -105,11 +113,34 @@ public class CodeFlow implements Opcodes {
 
 	/**
 	 * Push the byte code to load the target (i.e. what was passed as the first argument
-	 * to CompiledExpression.getValue(target, context))
+	 * to CompiledExpression.getValue(target, context)), or the element currently being
+	 * processed by an enclosing selection or projection
 	 * @param mv the visitor into which the load instruction should be inserted
 	 */
 	public void loadTarget(MethodVisitor mv) {
-		mv.visitVarInsn(ALOAD, 1);
+		Integer activeContextVariable = this.activeContextVariables.peek();
+		mv.visitVarInsn(ALOAD, (activeContextVariable != null ? activeContextVariable : 1));
+	}
+
+	/**
+	 * Make the given local variable the active context object, so that subsequent
+	 * calls to {@link #loadTarget} load it instead of the target. Used while
+	 * generating the code for the criteria of a selection or projection.
+	 * @param variableId the local variable holding the active context object
+	 * @since 5.3
+	 * @see #popActiveContextVariable()
+	 */
+	public void pushActiveContextVariable(int variableId) {
+		this.activeContextVariables.push(variableId);
+	}
+
+	/**
+	 * Restore the previous active context object.
+	 * @since 5.3
+	 * @see #pushActiveContextVariable(int)
+	 */
+	public void popActiveContextVariable() {
+		this.activeContextVariables.pop();
 	}
 
 	/**
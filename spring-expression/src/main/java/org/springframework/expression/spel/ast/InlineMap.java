@@ -20,8 +20,10 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelNode;
 import org.springframework.lang.Nullable;
@@ -43,6 +45,7 @@ public class InlineMap extends SpelNodeImpl {
 	public InlineMap(int startPos, int endPos, SpelNodeImpl... args) {
 		super(startPos, endPos, args);
 		checkIfConstant();
+		this.exitTypeDescriptor = "Ljava/util/Map";
 	}
 
 
@@ -164,4 +167,88 @@ public class InlineMap extends SpelNodeImpl {
 		return (Map<Object, Object>) this.constant.getValue();
 	}
 
+	@Override
+	public boolean isCompilable() {
+		if (isConstant()) {
+			return true;
+		}
+		for (int c = 0; c < this.children.length; c++) {
+			SpelNodeImpl child = this.children[c];
+			if (!(c % 2 == 0 && child instanceof PropertyOrFieldReference) && !child.isCompilable()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow codeflow) {
+		if (isConstant()) {
+			final String constantFieldName = "inlineMap$" + codeflow.nextFieldId();
+			final String className = codeflow.getClassName();
+
+			codeflow.registerNewField((cw, cflow) ->
+					cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, constantFieldName, "Ljava/util/Map;", null, null));
+
+			codeflow.registerNewClinit((mVisitor, cflow) -> {
+				generateMapCode(mVisitor, cflow);
+				mVisitor.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+						"(Ljava/util/Map;)Ljava/util/Map;", false);
+				mVisitor.visitFieldInsn(PUTSTATIC, className, constantFieldName, "Ljava/util/Map;");
+			});
+
+			mv.visitFieldInsn(GETSTATIC, className, constantFieldName, "Ljava/util/Map;");
+		}
+		else {
+			generateMapCode(mv, codeflow);
+		}
+		codeflow.pushDescriptor("Ljava/util/Map");
+	}
+
+	/**
+	 * Generate the code that builds a new map for this node, leaving it on the stack.
+	 * <p>Nested constant maps and lists are built directly here rather than through
+	 * {@link #generateCode}, since that would register another clinit adder.
+	 */
+	private void generateMapCode(MethodVisitor mv, CodeFlow codeflow) {
+		mv.visitTypeInsn(NEW, "java/util/LinkedHashMap");
+		mv.visitInsn(DUP);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/util/LinkedHashMap", "<init>", "()V", false);
+		boolean constant = isConstant();
+		for (int c = 0; c < this.children.length; c++) {
+			mv.visitInsn(DUP);
+			SpelNodeImpl keyChild = this.children[c++];
+			if (keyChild instanceof PropertyOrFieldReference) {
+				mv.visitLdcInsn(((PropertyOrFieldReference) keyChild).getName());
+			}
+			else {
+				generateElementCode(keyChild, mv, codeflow);
+			}
+			SpelNodeImpl valueChild = this.children[c];
+			if (constant && valueChild instanceof InlineList) {
+				((InlineList) valueChild).generateClinitCode(codeflow.getClassName(), "", mv, codeflow, true);
+			}
+			else if (constant && valueChild instanceof InlineMap) {
+				InlineMap inlineMap = (InlineMap) valueChild;
+				inlineMap.generateMapCode(mv, codeflow);
+				mv.visitMethodInsn(INVOKESTATIC, "java/util/Collections", "unmodifiableMap",
+						"(Ljava/util/Map;)Ljava/util/Map;", false);
+			}
+			else {
+				generateElementCode(valueChild, mv, codeflow);
+			}
+			mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Map", "put",
+					"(Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;", true);
+			mv.visitInsn(POP);
+		}
+	}
+
+	private void generateElementCode(SpelNodeImpl child, MethodVisitor mv, CodeFlow codeflow) {
+		child.generateCode(mv, codeflow);
+		String lastDesc = codeflow.lastDescriptor();
+		if (CodeFlow.isPrimitive(lastDesc)) {
+			CodeFlow.insertBoxIfNecessary(mv, lastDesc.charAt(0));
+		}
+	}
+
 }
@@ -54,6 +54,11 @@ import org.springframework.util.ObjectUtils;
  */
 public class MethodReference extends SpelNodeImpl {
 
+	private static final int MAX_RECENT_EXECUTORS = 4;
+
+	private static final CachedMethodExecutor[] NO_RECENT_EXECUTORS = new CachedMethodExecutor[0];
+
+
 	private final String name;
 
 	private final boolean nullSafe;
@@ -64,6 +69,12 @@ public class MethodReference extends SpelNodeImpl {
 	@Nullable
 	private volatile CachedMethodExecutor cachedExecutor;
 
+	/**
+	 * Executors for the most recently seen target and argument types, so that a
+	 * polymorphic target does not require the method to be resolved on every call.
+	 */
+	private volatile CachedMethodExecutor[] recentExecutors = NO_RECENT_EXECUTORS;
+
 
 	public MethodReference(boolean nullSafe, String methodName, int startPos, int endPos, SpelNodeImpl... arguments) {
 		super(startPos, endPos, arguments);
@@ -128,13 +139,16 @@ public class MethodReference extends SpelNodeImpl {
 				// At this point we know it wasn't a user problem so worth a retry if a
 				// better candidate can be found.
 				this.cachedExecutor = null;
+				removeRecentExecutor(executorToUse);
 			}
 		}
 
 		// either there was no accessor or it no longer existed
 		executorToUse = findAccessorForMethod(argumentTypes, value, evaluationContext);
-		this.cachedExecutor = new CachedMethodExecutor(
+		CachedMethodExecutor newExecutor = new CachedMethodExecutor(
 				executorToUse, (value instanceof Class ? (Class<?>) value : null), targetType, argumentTypes);
+		this.cachedExecutor = newExecutor;
+		addRecentExecutor(newExecutor);
 		try {
 			return executorToUse.execute(evaluationContext, value, arguments);
 		}
@@ -192,10 +206,37 @@ public class MethodReference extends SpelNodeImpl {
 		if (executorToCheck != null && executorToCheck.isSuitable(value, target, argumentTypes)) {
 			return executorToCheck.get();
 		}
+		for (CachedMethodExecutor recentExecutor : this.recentExecutors) {
+			if (recentExecutor != executorToCheck && recentExecutor.isSuitable(value, target, argumentTypes)) {
+				this.cachedExecutor = recentExecutor;
+				return recentExecutor.get();
+			}
+		}
 		this.cachedExecutor = null;
 		return null;
 	}
 
+	private void addRecentExecutor(CachedMethodExecutor executor) {
+		CachedMethodExecutor[] recentExecutors = this.recentExecutors;
+		int retained = Math.min(recentExecutors.length, MAX_RECENT_EXECUTORS - 1);
+		CachedMethodExecutor[] updated = new CachedMethodExecutor[retained + 1];
+		// Evict the least recently added executor, if necessary
+		System.arraycopy(recentExecutors, recentExecutors.length - retained, updated, 0, retained);
+		updated[retained] = executor;
+		this.recentExecutors = updated;
+	}
+
+	private void removeRecentExecutor(MethodExecutor executor) {
+		CachedMethodExecutor[] recentExecutors = this.recentExecutors;
+		List<CachedMethodExecutor> updated = new ArrayList<>(recentExecutors.length);
+		for (CachedMethodExecutor recentExecutor : recentExecutors) {
+			if (recentExecutor.get() != executor) {
+				updated.add(recentExecutor);
+			}
+		}
+		this.recentExecutors = updated.toArray(NO_RECENT_EXECUTORS);
+	}
+
 	private MethodExecutor findAccessorForMethod(List<TypeDescriptor> argumentTypes, Object targetObject,
 			EvaluationContext evaluationContext) throws SpelEvaluationException {
 
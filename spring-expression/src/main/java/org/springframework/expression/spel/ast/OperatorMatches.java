@@ -22,7 +22,9 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -81,8 +83,9 @@ public class OperatorMatches extends Operator {
 				pattern = Pattern.compile(rightString);
 				this.patternCache.putIfAbsent(rightString, pattern);
 			}
-			Matcher matcher = pattern.matcher(new MatcherInput(left, new AccessCount()));
-			return BooleanTypedValue.forValue(matcher.matches());
+			boolean result = matches(left, pattern);
+			this.exitTypeDescriptor = "Z";
+			return BooleanTypedValue.forValue(result);
 		}
 		catch (PatternSyntaxException ex) {
 			throw new SpelEvaluationException(
@@ -95,6 +98,57 @@ public class OperatorMatches extends Operator {
 	}
 
 
+	@Override
+	public boolean isCompilable() {
+		// Only a literal pattern can be compiled once into a constant of the generated class
+		SpelNodeImpl leftOp = getLeftOperand();
+		return (this.exitTypeDescriptor != null && getRightOperand() instanceof StringLiteral &&
+				leftOp.isCompilable() && "Ljava/lang/String".equals(leftOp.exitTypeDescriptor));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		String regex = (String) ((StringLiteral) getRightOperand()).getLiteralValue().getValue();
+		String patternFieldName = "pattern$" + cf.nextFieldId();
+		String className = cf.getClassName();
+
+		cf.registerNewField((cw, codeflow) ->
+				cw.visitField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, patternFieldName, "Ljava/util/regex/Pattern;", null, null));
+		cf.registerNewClinit((clinit, codeflow) -> {
+			clinit.visitLdcInsn(regex);
+			clinit.visitMethodInsn(INVOKESTATIC, "java/util/regex/Pattern", "compile",
+					"(Ljava/lang/String;)Ljava/util/regex/Pattern;", false);
+			clinit.visitFieldInsn(PUTSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+		});
+
+		cf.enterCompilationScope();
+		getLeftOperand().generateCode(mv, cf);
+		cf.exitCompilationScope();
+		mv.visitFieldInsn(GETSTATIC, className, patternFieldName, "Ljava/util/regex/Pattern;");
+		mv.visitMethodInsn(INVOKESTATIC, "org/springframework/expression/spel/ast/OperatorMatches", "matches",
+				"(Ljava/lang/String;Ljava/util/regex/Pattern;)Z", false);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
+
+	/**
+	 * Match the given input against the given pattern, guarding against
+	 * patterns that take an excessive number of steps on the input.
+	 * <p>This method is not just used by {@link #getValueInternal} but also
+	 * from compiled expression code, which is why it needs to be declared
+	 * as {@code public static} here.
+	 * @param input the input to match
+	 * @param pattern the pattern to apply
+	 * @return {@code true} if the entire input matches the pattern
+	 * @throws IllegalStateException if the pattern access threshold is exceeded
+	 * @since 5.3
+	 */
+	public static boolean matches(String input, Pattern pattern) {
+		Matcher matcher = pattern.matcher(new MatcherInput(input, new AccessCount()));
+		return matcher.matches();
+	}
+
+
 	private static class AccessCount {
 
 		private int count;
@@ -19,9 +19,11 @@ package org.springframework.expression.spel.ast;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 
+import org.springframework.asm.MethodVisitor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Operation;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.util.NumberUtils;
 
@@ -60,14 +62,21 @@ public class OperatorPower extends Operator {
 				return new TypedValue(leftBigInteger.pow(rightNumber.intValue()));
 			}
 			else if (leftNumber instanceof Double || rightNumber instanceof Double) {
+				this.exitTypeDescriptor = "D";
 				return new TypedValue(Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue()));
 			}
 			else if (leftNumber instanceof Float || rightNumber instanceof Float) {
+				this.exitTypeDescriptor = "D";
 				return new TypedValue(Math.pow(leftNumber.floatValue(), rightNumber.floatValue()));
 			}
 
 			double d = Math.pow(leftNumber.doubleValue(), rightNumber.doubleValue());
-			if (d > Integer.MAX_VALUE || leftNumber instanceof Long || rightNumber instanceof Long) {
+			if (leftNumber instanceof Long || rightNumber instanceof Long) {
+				this.exitTypeDescriptor = "J";
+				return new TypedValue((long) d);
+			}
+			else if (d > Integer.MAX_VALUE) {
+				// Result type depends on the value: not compilable
 				return new TypedValue((long) d);
 			}
 			else {
@@ -78,4 +87,66 @@ public class OperatorPower extends Operator {
 		return state.operate(Operation.POWER, leftOperand, rightOperand);
 	}
 
+	/**
+	 * Only a power operation whose result type can be derived from the operand
+	 * types is compilable: with a double or float operand the result is a double,
+	 * otherwise with a long operand it is a long. For int operands, the result
+	 * type depends on the magnitude of the result.
+	 */
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl left = getLeftOperand();
+		SpelNodeImpl right = getRightOperand();
+		if (this.exitTypeDescriptor == null || !left.isCompilable() || !right.isCompilable()) {
+			return false;
+		}
+		String leftDesc = left.exitTypeDescriptor;
+		String rightDesc = right.exitTypeDescriptor;
+		if (!CodeFlow.isPrimitiveOrUnboxableSupportedNumber(leftDesc) ||
+				!CodeFlow.isPrimitiveOrUnboxableSupportedNumber(rightDesc)) {
+			return false;
+		}
+		char leftTarget = CodeFlow.toPrimitiveTargetDesc(leftDesc);
+		char rightTarget = CodeFlow.toPrimitiveTargetDesc(rightDesc);
+		boolean floatingPoint = (leftTarget == 'D' || leftTarget == 'F' || rightTarget == 'D' || rightTarget == 'F');
+		if ("D".equals(this.exitTypeDescriptor)) {
+			return floatingPoint;
+		}
+		return (!floatingPoint && (leftTarget == 'J' || rightTarget == 'J'));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		SpelNodeImpl left = getLeftOperand();
+		SpelNodeImpl right = getRightOperand();
+		String leftDesc = left.exitTypeDescriptor;
+		String rightDesc = right.exitTypeDescriptor;
+		// Like the interpreted variant, widen to float first unless a double is involved
+		boolean viaFloat = (CodeFlow.toPrimitiveTargetDesc(leftDesc) != 'D' &&
+				CodeFlow.toPrimitiveTargetDesc(rightDesc) != 'D' && "D".equals(this.exitTypeDescriptor));
+		char operandTarget = (viaFloat ? 'F' : 'D');
+
+		cf.enterCompilationScope();
+		left.generateCode(mv, cf);
+		CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, leftDesc, operandTarget);
+		if (viaFloat) {
+			mv.visitInsn(F2D);
+		}
+		cf.exitCompilationScope();
+
+		cf.enterCompilationScope();
+		right.generateCode(mv, cf);
+		CodeFlow.insertNumericUnboxOrPrimitiveTypeCoercion(mv, rightDesc, operandTarget);
+		if (viaFloat) {
+			mv.visitInsn(F2D);
+		}
+		cf.exitCompilationScope();
+
+		mv.visitMethodInsn(INVOKESTATIC, "java/lang/Math", "pow", "(DD)D", false);
+		if ("J".equals(this.exitTypeDescriptor)) {
+			mv.visitInsn(D2L);
+		}
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 }
@@ -50,6 +50,11 @@ import org.springframework.util.ReflectionUtils;
  */
 public class PropertyOrFieldReference extends SpelNodeImpl {
 
+	private static final int MAX_CACHED_READ_ACCESSORS_BY_TYPE = 4;
+
+	private static final CachedReadAccessor[] NO_CACHED_READ_ACCESSORS = new CachedReadAccessor[0];
+
+
 	private final boolean nullSafe;
 
 	private final String name;
@@ -60,6 +65,13 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 	@Nullable
 	private volatile PropertyAccessor cachedReadAccessor;
 
+	/**
+	 * Optimized reflective read accessors for the most recently seen target types,
+	 * so that a polymorphic target does not require the accessor to be resolved
+	 * on every read.
+	 */
+	private volatile CachedReadAccessor[] cachedReadAccessorsByType = NO_CACHED_READ_ACCESSORS;
+
 	@Nullable
 	private volatile PropertyAccessor cachedWriteAccessor;
 
@@ -174,6 +186,21 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 			return TypedValue.NULL;
 		}
 
+		if (targetObject != null && !(targetObject instanceof Class)) {
+			try {
+				PropertyAccessor cachedAccessor = getCachedReadAccessor(targetObject, evalContext, name);
+				if (cachedAccessor != null) {
+					TypedValue result = cachedAccessor.read(evalContext, targetObject, name);
+					this.cachedReadAccessor = cachedAccessor;
+					return result;
+				}
+			}
+			catch (Exception ex) {
+				// Cannot have gone stale for the very same target type
+				throw new SpelEvaluationException(ex, SpelMessage.EXCEPTION_DURING_PROPERTY_READ, name, ex.getMessage());
+			}
+		}
+
 		PropertyAccessor accessorToUse = this.cachedReadAccessor;
 		if (accessorToUse != null) {
 			if (evalContext.getPropertyAccessors().contains(accessorToUse)) {
@@ -197,8 +224,14 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 			for (PropertyAccessor accessor : accessorsToTry) {
 				if (accessor.canRead(evalContext, contextObject.getValue(), name)) {
 					if (accessor instanceof ReflectivePropertyAccessor) {
-						accessor = ((ReflectivePropertyAccessor) accessor).createOptimalAccessor(
+						PropertyAccessor optimalAccessor = ((ReflectivePropertyAccessor) accessor).createOptimalAccessor(
 								evalContext, contextObject.getValue(), name);
+						if (optimalAccessor != accessor && targetObject != null && !(targetObject instanceof Class)) {
+							addCachedReadAccessor(new CachedReadAccessor(targetObject.getClass(),
+									evalContext.getPropertyAccessors(),
+									accessorsToTry.subList(0, accessorsToTry.indexOf(accessor)), optimalAccessor));
+						}
+						accessor = optimalAccessor;
 					}
 					this.cachedReadAccessor = accessor;
 					return accessor.read(evalContext, contextObject.getValue(), name);
@@ -218,6 +251,49 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 		}
 	}
 
+	/**
+	 * Return the optimized reflective read accessor cached for the type of the given
+	 * target, provided that the same types of property accessors are registered and
+	 * none of the accessors tried ahead of the reflective one can read the property.
+	 */
+	@Nullable
+	private PropertyAccessor getCachedReadAccessor(Object targetObject, EvaluationContext evalContext, String name)
+			throws AccessException {
+
+		Class<?> targetType = targetObject.getClass();
+		for (CachedReadAccessor cachedAccessor : this.cachedReadAccessorsByType) {
+			if (cachedAccessor.targetType == targetType) {
+				List<PropertyAccessor> propertyAccessors = evalContext.getPropertyAccessors();
+				if (!cachedAccessor.isApplicable(propertyAccessors)) {
+					return null;
+				}
+				// Preceding accessors may depend on the target state, e.g. the keys of a Map
+				for (int index : cachedAccessor.precedingAccessors) {
+					if (propertyAccessors.get(index).canRead(evalContext, targetObject, name)) {
+						return null;
+					}
+				}
+				return cachedAccessor.accessor;
+			}
+		}
+		return null;
+	}
+
+	private void addCachedReadAccessor(CachedReadAccessor cachedAccessor) {
+		List<CachedReadAccessor> updated = new ArrayList<>(MAX_CACHED_READ_ACCESSORS_BY_TYPE);
+		for (CachedReadAccessor existing : this.cachedReadAccessorsByType) {
+			if (existing.targetType != cachedAccessor.targetType) {
+				updated.add(existing);
+			}
+		}
+		if (updated.size() == MAX_CACHED_READ_ACCESSORS_BY_TYPE) {
+			// Evict the least recently added accessor
+			updated.remove(0);
+		}
+		updated.add(cachedAccessor);
+		this.cachedReadAccessorsByType = updated.toArray(NO_CACHED_READ_ACCESSORS);
+	}
+
 	private void writeProperty(
 			TypedValue contextObject, EvaluationContext evalContext, String name, @Nullable Object newValue)
 			throws EvaluationException {
@@ -381,6 +457,52 @@ public class PropertyOrFieldReference extends SpelNodeImpl {
 	}
 
 
+	/**
+	 * Optimized read accessor for a specific target type, along with the types
+	 * of the property accessors that were registered when it was resolved and
+	 * the positions of those that were tried ahead of the reflective accessor.
+	 * <p>Accessor types rather than instances are compared, so that an entry
+	 * remains usable with a new evaluation context for every evaluation.
+	 */
+	private static class CachedReadAccessor {
+
+		final Class<?> targetType;
+
+		final Class<?>[] propertyAccessorTypes;
+
+		final int[] precedingAccessors;
+
+		final PropertyAccessor accessor;
+
+		CachedReadAccessor(Class<?> targetType, List<PropertyAccessor> propertyAccessors,
+				List<PropertyAccessor> precedingAccessors, PropertyAccessor accessor) {
+
+			this.targetType = targetType;
+			this.propertyAccessorTypes = new Class<?>[propertyAccessors.size()];
+			for (int i = 0; i < this.propertyAccessorTypes.length; i++) {
+				this.propertyAccessorTypes[i] = propertyAccessors.get(i).getClass();
+			}
+			this.precedingAccessors = new int[precedingAccessors.size()];
+			for (int i = 0; i < this.precedingAccessors.length; i++) {
+				this.precedingAccessors[i] = propertyAccessors.indexOf(precedingAccessors.get(i));
+			}
+			this.accessor = accessor;
+		}
+
+		boolean isApplicable(List<PropertyAccessor> propertyAccessors) {
+			if (propertyAccessors.size() != this.propertyAccessorTypes.length) {
+				return false;
+			}
+			for (int i = 0; i < this.propertyAccessorTypes.length; i++) {
+				if (propertyAccessors.get(i).getClass() != this.propertyAccessorTypes[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+
 	private static class AccessorLValue implements ValueRef {
 
 		private final PropertyOrFieldReference ref;
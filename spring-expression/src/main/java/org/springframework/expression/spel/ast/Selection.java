@@ -23,9 +23,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.TypedValue;
+import org.springframework.expression.spel.CodeFlow;
 import org.springframework.expression.spel.ExpressionState;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.SpelMessage;
@@ -88,6 +91,7 @@ public class Selection extends SpelNodeImpl {
 		SpelNodeImpl selectionCriteria = this.children[0];
 
 		if (operand instanceof Map) {
+			this.exitTypeDescriptor = null;
 			Map<?, ?> mapdata = (Map<?, ?>) operand;
 			// TODO don't lose generic info for the new map
 			Map<Object, Object> result = new HashMap<>();
@@ -137,6 +141,10 @@ public class Selection extends SpelNodeImpl {
 		if (operand instanceof Iterable || ObjectUtils.isArray(operand)) {
 			Iterable<?> data = (operand instanceof Iterable ?
 					(Iterable<?>) operand : Arrays.asList(ObjectUtils.toObjectArray(operand)));
+			// Only selection over an Iterable is compilable: an array yields an array
+			// of the element type, which would have to be determined at runtime
+			this.exitTypeDescriptor = (operand instanceof Iterable ?
+					(this.variant == ALL ? "Ljava/util/List" : "Ljava/lang/Object") : null);
 
 			List<Object> result = new ArrayList<>();
 			int index = 0;
@@ -208,6 +216,109 @@ public class Selection extends SpelNodeImpl {
 		return prefix() + getChild(0).toStringAST() + "]";
 	}
 
+	@Override
+	public boolean isCompilable() {
+		SpelNodeImpl selectionCriteria = this.children[0];
+		String criteriaDescriptor = selectionCriteria.exitTypeDescriptor;
+		return (this.exitTypeDescriptor != null && selectionCriteria.isCompilable() &&
+				("Z".equals(criteriaDescriptor) || "Ljava/lang/Boolean".equals(criteriaDescriptor)) &&
+				!VariableReference.isLocalScopeVariableReferenced(selectionCriteria));
+	}
+
+	@Override
+	public void generateCode(MethodVisitor mv, CodeFlow cf) {
+		if (cf.lastDescriptor() == null) {
+			// Selection on the root object
+			cf.loadTarget(mv);
+		}
+		Label endOfSelection = new Label();
+		if (this.nullSafe) {
+			Label operandNotNull = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, operandNotNull);
+			mv.visitInsn(POP);
+			mv.visitInsn(ACONST_NULL);
+			mv.visitJumpInsn(GOTO, endOfSelection);
+			mv.visitLabel(operandNotNull);
+		}
+
+		int iteratorVariable = cf.nextFreeVariableId();
+		int elementVariable = cf.nextFreeVariableId();
+		int resultVariable = cf.nextFreeVariableId();
+		mv.visitTypeInsn(CHECKCAST, "java/lang/Iterable");
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/lang/Iterable", "iterator", "()Ljava/util/Iterator;", true);
+		mv.visitVarInsn(ASTORE, iteratorVariable);
+		if (this.variant == ALL) {
+			mv.visitTypeInsn(NEW, "java/util/ArrayList");
+			mv.visitInsn(DUP);
+			mv.visitMethodInsn(INVOKESPECIAL, "java/util/ArrayList", "<init>", "()V", false);
+		}
+		else {
+			mv.visitInsn(ACONST_NULL);
+		}
+		mv.visitVarInsn(ASTORE, resultVariable);
+
+		Label nextElement = new Label();
+		Label endOfElements = new Label();
+		mv.visitLabel(nextElement);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "hasNext", "()Z", true);
+		mv.visitJumpInsn(IFEQ, endOfElements);
+		mv.visitVarInsn(ALOAD, iteratorVariable);
+		mv.visitMethodInsn(INVOKEINTERFACE, "java/util/Iterator", "next", "()Ljava/lang/Object;", true);
+		mv.visitVarInsn(ASTORE, elementVariable);
+
+		// Evaluate the criteria against the current element
+		cf.pushActiveContextVariable(elementVariable);
+		cf.enterCompilationScope();
+		SpelNodeImpl selectionCriteria = this.children[0];
+		selectionCriteria.generateCode(mv, cf);
+		if (!"Z".equals(cf.lastDescriptor())) {
+			// A null Boolean is rejected, as in interpreted mode, rather than failing on unboxing
+			Label criteriaNotNull = new Label();
+			mv.visitInsn(DUP);
+			mv.visitJumpInsn(IFNONNULL, criteriaNotNull);
+			mv.visitTypeInsn(NEW, "org/springframework/expression/spel/SpelEvaluationException");
+			mv.visitInsn(DUP);
+			CodeFlow.insertOptimalLoad(mv, selectionCriteria.getStartPosition());
+			mv.visitFieldInsn(GETSTATIC, "org/springframework/expression/spel/SpelMessage",
+					"RESULT_OF_SELECTION_CRITERIA_IS_NOT_BOOLEAN", "Lorg/springframework/expression/spel/SpelMessage;");
+			mv.visitInsn(ICONST_0);
+			mv.visitTypeInsn(ANEWARRAY, "java/lang/Object");
+			mv.visitMethodInsn(INVOKESPECIAL, "org/springframework/expression/spel/SpelEvaluationException", "<init>",
+					"(ILorg/springframework/expression/spel/SpelMessage;[Ljava/lang/Object;)V", false);
+			mv.visitInsn(ATHROW);
+			mv.visitLabel(criteriaNotNull);
+		}
+		cf.unboxBooleanIfNecessary(mv);
+		cf.exitCompilationScope();
+		cf.popActiveContextVariable();
+		mv.visitJumpInsn(IFEQ, nextElement);
+
+		switch (this.variant) {
+			case FIRST:
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitJumpInsn(GOTO, endOfSelection);
+				break;
+			case LAST:
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitVarInsn(ASTORE, resultVariable);
+				break;
+			default:
+				mv.visitVarInsn(ALOAD, resultVariable);
+				mv.visitTypeInsn(CHECKCAST, "java/util/List");
+				mv.visitVarInsn(ALOAD, elementVariable);
+				mv.visitMethodInsn(INVOKEINTERFACE, "java/util/List", "add", "(Ljava/lang/Object;)Z", true);
+				mv.visitInsn(POP);
+		}
+		mv.visitJumpInsn(GOTO, nextElement);
+
+		mv.visitLabel(endOfElements);
+		mv.visitVarInsn(ALOAD, resultVariable);
+		mv.visitLabel(endOfSelection);
+		cf.pushDescriptor(this.exitTypeDescriptor);
+	}
+
 	private String prefix() {
 		switch (this.variant) {
 			case ALL:   return "?[";
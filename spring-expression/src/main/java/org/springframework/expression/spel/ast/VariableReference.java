@@ -40,6 +40,8 @@ public class VariableReference extends SpelNodeImpl {
 
 	private static final String ROOT = "root";  // root context object
 
+	private static final String INDEX = "index";  // index of the element in a selection or projection
+
 
 	private final String name;
 
@@ -124,6 +126,29 @@ public class VariableReference extends SpelNodeImpl {
 	}
 
 
+	/**
+	 * Determine whether the given node or any of its descendants refers to a variable
+	 * that only exists in the local scope of a selection or projection, i.e.
+	 * {@code #this} or {@code #index}, and is therefore not visible to compiled code.
+	 * @param node the node to check
+	 * @since 5.3
+	 */
+	static boolean isLocalScopeVariableReferenced(SpelNodeImpl node) {
+		if (node instanceof VariableReference) {
+			String name = ((VariableReference) node).name;
+			if (name.equals(THIS) || name.equals(INDEX)) {
+				return true;
+			}
+		}
+		for (SpelNodeImpl child : node.children) {
+			if (isLocalScopeVariableReferenced(child)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
 	private static class VariableRef implements ValueRef {
 
 		private final String name;
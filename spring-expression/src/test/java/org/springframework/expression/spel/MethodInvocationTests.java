@@ -279,6 +279,21 @@ public class MethodInvocationTests extends AbstractExpressionTests {
 	}
 
 
+	@Test
+	public void invokeMethodOnPolymorphicTargets() {
+		Expression expression = parser.parseExpression("describe('!')");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		Object[] targets = {new Animal(), new Dog(), new Animal(), "text"};
+		for (int i = 0; i < 3; i++) {
+			assertThat(expression.getValue(context, targets[0])).isEqualTo("animal!");
+			assertThat(expression.getValue(context, targets[1])).isEqualTo("dog!");
+			assertThat(expression.getValue(context, targets[2])).isEqualTo("animal!");
+		}
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+				expression.getValue(context, targets[3]))
+			.satisfies(ex -> assertThat(ex.getMessageCode()).isEqualTo(SpelMessage.METHOD_NOT_FOUND));
+	}
+
 	// Simple filter
 	static class LocalFilter implements MethodFilter {
 
@@ -352,4 +367,21 @@ public class MethodInvocationTests extends AbstractExpressionTests {
 		}
 	}
 
+
+	public static class Animal {
+
+		public String describe(String suffix) {
+			return "animal" + suffix;
+		}
+	}
+
+
+	public static class Dog extends Animal {
+
+		@Override
+		public String describe(String suffix) {
+			return "dog" + suffix;
+		}
+	}
+
 }
@@ -18,8 +18,10 @@ package org.springframework.expression.spel;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,6 +34,7 @@ import org.springframework.expression.PropertyAccessor;
 import org.springframework.expression.TypedValue;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.expression.spel.testresources.Inventor;
@@ -165,6 +168,58 @@ public class PropertyAccessTests extends AbstractExpressionTests {
 		assertThat(expression.getValue(context)).isEqualTo("Jens");
 	}
 
+	@Test
+	public void polymorphicTargets() {
+		Expression expression = parser.parseExpression("name");
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		Object[] targets = {new Person("Ada"), new Inventor("Nikola Tesla", null, "Serbian"), new Person("Grace")};
+		for (int i = 0; i < 3; i++) {
+			assertThat(expression.getValue(context, targets[0])).isEqualTo("Ada");
+			assertThat(expression.getValue(context, targets[1])).isEqualTo("Nikola Tesla");
+			assertThat(expression.getValue(context, targets[2])).isEqualTo("Grace");
+		}
+
+		// A property accessor added later on is still taken into account
+		context.addPropertyAccessor(new ConfigurablePropertyAccessor(Collections.singletonMap("name", "Ollie")));
+		assertThat(expression.getValue(context, targets[0])).isEqualTo("Ollie");
+		assertThat(expression.getValue(context, targets[1])).isEqualTo("Ollie");
+	}
+
+	@Test
+	public void cachedReadAccessorWithPrecedingAccessor() {
+		Expression expression = parser.parseExpression("name");
+		Map<String, Object> values = new HashMap<>();
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.addPropertyAccessor(new KeyedPropertyAccessor(values));
+		Person target = new Person("Ada");
+		assertThat(expression.getValue(context, target)).isEqualTo("Ada");
+		assertThat(expression.getValue(context, target)).isEqualTo("Ada");
+
+		// The preceding accessor is still asked whether it can read the property
+		values.put("name", "Grace");
+		assertThat(expression.getValue(context, target)).isEqualTo("Grace");
+		values.remove("name");
+		assertThat(expression.getValue(context, target)).isEqualTo("Ada");
+	}
+
+	@Test
+	public void cachedReadAccessorWithNewContextPerEvaluation() {
+		Expression expression = parser.parseExpression("name");
+		AtomicInteger optimalAccessorsCreated = new AtomicInteger();
+		for (int i = 0; i < 3; i++) {
+			StandardEvaluationContext context = new StandardEvaluationContext();
+			context.setPropertyAccessors(Collections.singletonList(new ReflectivePropertyAccessor() {
+				@Override
+				public PropertyAccessor createOptimalAccessor(EvaluationContext context, Object target, String name) {
+					optimalAccessorsCreated.incrementAndGet();
+					return super.createOptimalAccessor(context, target, name);
+				}
+			}));
+			assertThat(expression.getValue(context, new Person("Ada"))).isEqualTo("Ada");
+		}
+		assertThat(optimalAccessorsCreated.get()).isEqualTo(1);
+	}
+
 	@Test
 	public void standardGetClassAccess() {
 		assertThat(parser.parseExpression("'a'.class.name").getValue()).isEqualTo(String.class.getName());
@@ -316,6 +371,40 @@ public class PropertyAccessTests extends AbstractExpressionTests {
 	}
 
 
+	private static class KeyedPropertyAccessor implements PropertyAccessor {
+
+		private final Map<String, Object> values;
+
+		public KeyedPropertyAccessor(Map<String, Object> values) {
+			this.values = values;
+		}
+
+		@Override
+		public Class<?>[] getSpecificTargetClasses() {
+			return null;
+		}
+
+		@Override
+		public boolean canRead(EvaluationContext context, Object target, String name) {
+			return this.values.containsKey(name);
+		}
+
+		@Override
+		public TypedValue read(EvaluationContext context, Object target, String name) {
+			return new TypedValue(this.values.get(name));
+		}
+
+		@Override
+		public boolean canWrite(EvaluationContext context, Object target, String name) {
+			return false;
+		}
+
+		@Override
+		public void write(EvaluationContext context, Object target, String name, Object newValue) {
+		}
+	}
+
+
 	private static class ConfigurablePropertyAccessor implements PropertyAccessor {
 
 		private final Map<String, Object> values;
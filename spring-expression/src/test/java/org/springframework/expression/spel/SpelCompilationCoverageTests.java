@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -445,6 +446,45 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertThat(o).isEqualTo("op");
 	}
 
+	@SuppressWarnings("rawtypes")
+	@Test
+	public void inlineMap() throws Exception {
+		expression = parser.parseExpression("{a:1,'b':'x'}");
+		Map<?, ?> m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=1, b=x}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=1, b=x}");
+		assertThat(expression.getValue()).isSameAs(m);
+		Map<?, ?> constant = m;
+		assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> constant.clear());
+
+		expression = parser.parseExpression("{a:{1,2},b:{c:true}}");
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=[1, 2], b={c=true}}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue();
+		assertThat(m.toString()).isEqualTo("{a=[1, 2], b={c=true}}");
+
+		expression = parser.parseExpression("{a:1,b:'x'}['b']");
+		assertThat(expression.getValue()).isEqualTo("x");
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo("x");
+
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setVariable("name", "spring");
+		expression = parser.parseExpression("{name:#name,length:#name.length(),list:{1,2}}");
+		m = (Map) expression.getValue(context);
+		assertThat(m.toString()).isEqualTo("{name=spring, length=6, list=[1, 2]}");
+		assertCanCompile(expression);
+		m = (Map) expression.getValue(context);
+		assertThat(m.toString()).isEqualTo("{name=spring, length=6, list=[1, 2]}");
+		assertThat(expression.getValue(context)).isNotSameAs(m);
+		context.setVariable("name", "spel");
+		m = (Map) expression.getValue(context);
+		assertThat(m.toString()).isEqualTo("{name=spel, length=4, list=[1, 2]}");
+	}
+
 	@Test
 	public void intLiteral() throws Exception {
 		expression = parser.parseExpression("42");
@@ -5086,6 +5126,142 @@ public class SpelCompilationCoverageTests extends AbstractExpressionTests {
 		assertIsCompiled(exp);
 	}
 
+	@Test
+	public void selection() throws Exception {
+		List<Person> people = Arrays.asList(new Person(12), new Person(40), new Person(33));
+
+		expression = parser.parseExpression("?[age > 30].![age]");
+		assertThat(expression.getValue(people)).isEqualTo(Arrays.asList(40, 33));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(Arrays.asList(40, 33));
+
+		expression = parser.parseExpression("^[age > 30].age");
+		assertThat(expression.getValue(people)).isEqualTo(40);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(40);
+
+		expression = parser.parseExpression("$[age > 30].age");
+		assertThat(expression.getValue(people)).isEqualTo(33);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(33);
+
+		expression = parser.parseExpression("^[age > 100]");
+		assertThat(expression.getValue(people)).isNull();
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isNull();
+
+		expression = parser.parseExpression("{1,2,3,4}.?[intValue() > 2]");
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(3, 4));
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(3, 4));
+
+		// #this and #index are local to the selection
+		expression = parser.parseExpression("?[#this.age > 30].![age]");
+		assertThat(expression.getValue(people)).isEqualTo(Arrays.asList(40, 33));
+		assertCantCompile(expression);
+	}
+
+	@Test
+	public void selectionWithNullCriteria() throws Exception {
+		List<Person> people = Arrays.asList(new Person(12), new Person(40));
+		StandardEvaluationContext context = new StandardEvaluationContext(people);
+		context.setVariable("include", true);
+
+		expression = parser.parseExpression("?[#include]");
+		assertThat(expression.getValue(context)).isEqualTo(people);
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo(people);
+
+		context.setVariable("include", null);
+		assertThatExceptionOfType(SpelEvaluationException.class).isThrownBy(() ->
+				expression.getValue(context))
+			.withCauseInstanceOf(SpelEvaluationException.class)
+			.satisfies(ex -> assertThat(((SpelEvaluationException) ex.getCause()).getMessageCode())
+					.isEqualTo(SpelMessage.RESULT_OF_SELECTION_CRITERIA_IS_NOT_BOOLEAN));
+	}
+
+	@Test
+	public void projection() throws Exception {
+		List<Person> people = Arrays.asList(new Person(12), new Person(40), new Person(33));
+
+		expression = parser.parseExpression("![age]");
+		assertThat(expression.getValue(people)).isEqualTo(Arrays.asList(12, 40, 33));
+		assertCanCompile(expression);
+		assertThat(expression.getValue(people)).isEqualTo(Arrays.asList(12, 40, 33));
+
+		expression = parser.parseExpression("{1,2,3}.![intValue() * 2]");
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(2, 4, 6));
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(2, 4, 6));
+
+		expression = parser.parseExpression("{{1,2},{3,4,5}}.![?[intValue() > 1]]");
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(Arrays.asList(2), Arrays.asList(3, 4, 5)));
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(Arrays.asList(Arrays.asList(2), Arrays.asList(3, 4, 5)));
+
+		// #this and #index are local to the projection
+		expression = parser.parseExpression("![#index]");
+		expression.getValue(people);
+		assertCantCompile(expression);
+
+		// Projection of an array results in an array
+		expression = parser.parseExpression("new Integer[] {1,2}.![intValue()]");
+		assertThat(expression.getValue()).isEqualTo(new Integer[] {1, 2});
+		assertCantCompile(expression);
+	}
+
+	@Test
+	public void beanReference() throws Exception {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setBeanResolver((ctx, beanName) -> new Greeter());
+
+		expression = parser.parseExpression("@greeter.world");
+		assertThat(expression.getValue(context)).isEqualTo("world");
+		assertCanCompile(expression);
+		assertThat(expression.getValue(context)).isEqualTo("world");
+	}
+
+	@Test
+	public void operatorMatches() throws Exception {
+		expression = parse("'spring' matches '[a-z]+'");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(true);
+
+		expression = parse("'spring' matches '[0-9]+'");
+		assertThat(expression.getValue()).isEqualTo(false);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(false);
+
+		// Pattern not known until evaluation
+		expression = parse("'spring' matches '[a-z]' + '+'");
+		assertThat(expression.getValue()).isEqualTo(true);
+		assertCantCompile(expression);
+	}
+
+	@Test
+	public void operatorPower() throws Exception {
+		expression = parse("2.0d ^ 2");
+		assertThat(expression.getValue()).isEqualTo(4.0d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(4.0d);
+
+		expression = parse("1.5f ^ 2");
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(2.25d);
+
+		expression = parse("2 ^ 3L");
+		assertThat(expression.getValue()).isEqualTo(8L);
+		assertCanCompile(expression);
+		assertThat(expression.getValue()).isEqualTo(8L);
+
+		// Result type depends on the magnitude of the result
+		expression = parse("2 ^ 3");
+		assertThat(expression.getValue()).isEqualTo(8);
+		assertCantCompile(expression);
+	}
+
 	@Test
 	public void repeatedCompilation() throws Exception {
 		// Verifying that after a number of compilations, the classloaders
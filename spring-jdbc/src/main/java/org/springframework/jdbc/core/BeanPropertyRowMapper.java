@@ -17,6 +17,7 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -103,6 +104,10 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	@Nullable
 	private Set<String> mappedProperties;
 
+	/** Column-to-property mapping for the most recently mapped result set layout. */
+	@Nullable
+	private volatile ColumnMapping columnMapping;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -221,6 +226,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		this.mappedClass = mappedClass;
 		this.mappedFields = new HashMap<>();
 		this.mappedProperties = new HashSet<>();
+		this.columnMapping = null;
 
 		for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(mappedClass)) {
 			if (pd.getWriteMethod() != null) {
@@ -285,14 +291,13 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		T mappedObject = constructMappedInstance(rs, bw);
 		bw.setBeanInstance(mappedObject);
 
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
+		ColumnMapping columnMapping = obtainColumnMapping(rs, rowNumber);
+		int columnCount = columnMapping.columns.length;
 		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
 
 		for (int index = 1; index <= columnCount; index++) {
-			String column = JdbcUtils.lookupColumnName(rsmd, index);
-			String field = lowerCaseName(StringUtils.delete(column, " "));
-			PropertyDescriptor pd = (this.mappedFields != null ? this.mappedFields.get(field) : null);
+			String column = columnMapping.columns[index - 1];
+			PropertyDescriptor pd = columnMapping.propertyDescriptors[index - 1];
 			if (pd != null) {
 				try {
 					Object value = getColumnValue(rs, index, pd);
@@ -329,7 +334,8 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 			else {
 				// No PropertyDescriptor found
 				if (rowNumber == 0 && logger.isDebugEnabled()) {
-					logger.debug("No property found for column '" + column + "' mapped to field '" + field + "'");
+					logger.debug("No property found for column '" + column + "' mapped to field '" +
+							mappedFieldName(column) + "'");
 				}
 			}
 		}
@@ -342,6 +348,41 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Return the column-to-property mapping for the given result set.
+	 * <p>The result set meta-data is only checked for the first row of a result
+	 * set, reusing the previously resolved mapping if the column labels match.
+	 */
+	private ColumnMapping obtainColumnMapping(ResultSet rs, int rowNumber) throws SQLException {
+		ColumnMapping columnMapping = this.columnMapping;
+		if (columnMapping != null && rowNumber > 0 && columnMapping.isFor(rs)) {
+			return columnMapping;
+		}
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		if (columnMapping == null || !columnMapping.matches(rsmd, columnCount)) {
+			String[] columns = new String[columnCount];
+			PropertyDescriptor[] propertyDescriptors = new PropertyDescriptor[columnCount];
+			for (int index = 1; index <= columnCount; index++) {
+				String column = JdbcUtils.lookupColumnName(rsmd, index);
+				columns[index - 1] = column;
+				if (this.mappedFields != null) {
+					propertyDescriptors[index - 1] = this.mappedFields.get(mappedFieldName(column));
+				}
+			}
+			columnMapping = new ColumnMapping(columns, propertyDescriptors, rs);
+		}
+		else {
+			columnMapping = new ColumnMapping(columnMapping.columns, columnMapping.propertyDescriptors, rs);
+		}
+		this.columnMapping = columnMapping;
+		return columnMapping;
+	}
+
+	private String mappedFieldName(String column) {
+		return lowerCaseName(StringUtils.delete(column, " "));
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -433,4 +474,41 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Resolved mapping from result set columns to bean properties,
+	 * with {@code null} entries for columns without a matching property.
+	 * Weakly refers to the result set it was last checked against.
+	 */
+	private static final class ColumnMapping {
+
+		final String[] columns;
+
+		final PropertyDescriptor[] propertyDescriptors;
+
+		private final WeakReference<ResultSet> resultSet;
+
+		ColumnMapping(String[] columns, PropertyDescriptor[] propertyDescriptors, ResultSet resultSet) {
+			this.columns = columns;
+			this.propertyDescriptors = propertyDescriptors;
+			this.resultSet = new WeakReference<>(resultSet);
+		}
+
+		boolean isFor(ResultSet rs) {
+			return (this.resultSet.get() == rs);
+		}
+
+		boolean matches(ResultSetMetaData rsmd, int columnCount) throws SQLException {
+			if (this.columns.length != columnCount) {
+				return false;
+			}
+			for (int index = 1; index <= columnCount; index++) {
+				if (!this.columns[index - 1].equals(JdbcUtils.lookupColumnName(rsmd, index))) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
 }
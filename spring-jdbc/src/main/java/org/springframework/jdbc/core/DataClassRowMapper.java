@@ -46,6 +46,7 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 	@Nullable
 	private Constructor<T> mappedConstructor;
 
+	/** Constructor parameter names, pre-converted to their underscored column names. */
 	@Nullable
 	private String[] constructorParameterNames;
 
@@ -77,7 +78,11 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 
 		this.mappedConstructor = BeanUtils.getResolvableConstructor(mappedClass);
 		if (this.mappedConstructor.getParameterCount() > 0) {
-			this.constructorParameterNames = BeanUtils.getParameterNames(this.mappedConstructor);
+			String[] parameterNames = BeanUtils.getParameterNames(this.mappedConstructor);
+			this.constructorParameterNames = new String[parameterNames.length];
+			for (int i = 0; i < parameterNames.length; i++) {
+				this.constructorParameterNames[i] = underscoreName(parameterNames[i]);
+			}
 			this.constructorParameterTypes = this.mappedConstructor.getParameterTypes();
 		}
 	}
@@ -90,7 +95,7 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = underscoreName(this.constructorParameterNames[i]);
+				String name = this.constructorParameterNames[i];
 				Class<?> type = this.constructorParameterTypes[i];
 				args[i] = tc.convertIfNecessary(getColumnValue(rs, rs.findColumn(name), type), type);
 			}
@@ -19,6 +19,7 @@ package org.springframework.jdbc.core;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
@@ -591,6 +592,49 @@ public interface JdbcOperations {
 	<T> Stream<T> queryForStream(String sql, RowMapper<T> rowMapper, @Nullable Object... args)
 			throws DataAccessException;
 
+	/**
+	 * Query using a prepared statement, mapping each row to a result object
+	 * via a RowMapper, and handing the mapped objects to the given consumer
+	 * in chunks of at most the given size.
+	 * <p>In contrast to {@link #query(PreparedStatementCreator, RowMapper)},
+	 * at most one chunk of mapped objects is held in memory at any time, and
+	 * in contrast to {@link #queryForStream(PreparedStatementCreator, RowMapper)},
+	 * all JDBC resources are released once this method returns. Unless a fetch
+	 * size has been configured for this template, the statement's fetch size is
+	 * set to the chunk size, so that the driver can retrieve rows in matching
+	 * batches. Note that some drivers (e.g. PostgreSQL) only honor the fetch
+	 * size within a transaction.
+	 * @param psc a callback that creates a PreparedStatement given a Connection
+	 * @param rowMapper a callback that will map one object per row
+	 * @param chunkSize the maximum number of mapped objects per chunk
+	 * @param chunkConsumer a callback that will receive each chunk of mapped objects
+	 * @throws DataAccessException if there is any problem
+	 * @since 5.3
+	 * @see PreparedStatementCreatorFactory
+	 */
+	<T> void queryForChunks(PreparedStatementCreator psc, RowMapper<T> rowMapper, int chunkSize,
+			Consumer<? super List<T>> chunkConsumer) throws DataAccessException;
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list of
+	 * arguments to bind to the query, mapping each row to a result object
+	 * via a RowMapper, and handing the mapped objects to the given consumer
+	 * in chunks of at most the given size.
+	 * @param sql the SQL query to execute
+	 * @param rowMapper a callback that will map one object per row
+	 * @param chunkSize the maximum number of mapped objects per chunk
+	 * @param chunkConsumer a callback that will receive each chunk of mapped objects
+	 * @param args arguments to bind to the query
+	 * (leaving it to the PreparedStatement to guess the corresponding SQL type);
+	 * may also contain {@link SqlParameterValue} objects which indicate not
+	 * only the argument value but also the SQL type and optionally the scale
+	 * @throws DataAccessException if the query fails
+	 * @since 5.3
+	 * @see #queryForChunks(PreparedStatementCreator, RowMapper, int, Consumer)
+	 */
+	<T> void queryForChunks(String sql, RowMapper<T> rowMapper, int chunkSize,
+			Consumer<? super List<T>> chunkConsumer, @Nullable Object... args) throws DataAccessException;
+
 	/**
 	 * Query given SQL to create a prepared statement from SQL and a list
 	 * of arguments to bind to the query, mapping a single result row to a
@@ -1025,6 +1069,28 @@ public interface JdbcOperations {
 	<T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
 			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the given
+	 * arguments, which may be of unknown and potentially unbounded size.
+	 * The arguments' values will be set using the ParameterizedPreparedStatementSetter.
+	 * Each batch is sent as soon as it reaches the size indicated in 'batchSize',
+	 * with a final batch for any remaining arguments, so the given Iterable may
+	 * lazily produce its elements (e.g. from a Stream via {@code stream::iterator}).
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the arguments for the query, iterated only once
+	 * @param batchSize batch size
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @return an array containing for each batch another array containing the numbers of
+	 * rows affected by each update in the batch
+	 * (may also contain special JDBC-defined negative values for affected rows such as
+	 * {@link java.sql.Statement#SUCCESS_NO_INFO}/{@link java.sql.Statement#EXECUTE_FAILED})
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 5.3
+	 * @see #batchUpdate(String, Collection, int, ParameterizedPreparedStatementSetter)
+	 */
+	<T> int[][] batchUpdate(String sql, Iterable<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
@@ -31,6 +31,7 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -863,6 +864,80 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return queryForStream(new SimplePreparedStatementCreator(sql), newArgPreparedStatementSetter(args), rowMapper);
 	}
 
+	/**
+	 * Query using a prepared statement, allowing for a PreparedStatementCreator
+	 * and a PreparedStatementSetter, mapping each row to a result object via a
+	 * RowMapper, and handing the mapped objects to the given consumer in chunks
+	 * of at most the given size.
+	 * <p>Unless a {@link #setFetchSize fetch size} has been configured for this
+	 * template, the statement's fetch size is set to the chunk size before the
+	 * given PreparedStatementSetter is applied, so the latter may override it.
+	 * @param psc a callback that creates a PreparedStatement given a Connection
+	 * @param pss a callback that knows how to set values on the prepared statement.
+	 * If this is {@code null}, the SQL will be assumed to contain no bind parameters.
+	 * @param rowMapper a callback that will map one object per row
+	 * @param chunkSize the maximum number of mapped objects per chunk
+	 * @param chunkConsumer a callback that will receive each chunk of mapped objects
+	 * @throws DataAccessException if the query fails
+	 * @since 5.3
+	 */
+	public <T> void queryForChunks(PreparedStatementCreator psc, @Nullable PreparedStatementSetter pss,
+			RowMapper<T> rowMapper, int chunkSize, Consumer<? super List<T>> chunkConsumer)
+			throws DataAccessException {
+
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than 0");
+		Assert.notNull(chunkConsumer, "Chunk consumer must not be null");
+		logger.debug("Executing prepared SQL query in chunks");
+
+		execute(psc, ps -> {
+			ResultSet rs = null;
+			try {
+				if (getFetchSize() == -1) {
+					ps.setFetchSize(chunkSize);
+				}
+				if (pss != null) {
+					pss.setValues(ps);
+				}
+				rs = ps.executeQuery();
+				List<T> chunk = new ArrayList<>(chunkSize);
+				int rowNum = 0;
+				while (rs.next()) {
+					chunk.add(rowMapper.mapRow(rs, rowNum++));
+					if (chunk.size() == chunkSize) {
+						chunkConsumer.accept(chunk);
+						chunk = new ArrayList<>(chunkSize);
+					}
+				}
+				if (!chunk.isEmpty()) {
+					chunkConsumer.accept(chunk);
+				}
+				return null;
+			}
+			finally {
+				JdbcUtils.closeResultSet(rs);
+				if (pss instanceof ParameterDisposer) {
+					((ParameterDisposer) pss).cleanupParameters();
+				}
+			}
+		}, true);
+	}
+
+	@Override
+	public <T> void queryForChunks(PreparedStatementCreator psc, RowMapper<T> rowMapper, int chunkSize,
+			Consumer<? super List<T>> chunkConsumer) throws DataAccessException {
+
+		queryForChunks(psc, null, rowMapper, chunkSize, chunkConsumer);
+	}
+
+	@Override
+	public <T> void queryForChunks(String sql, RowMapper<T> rowMapper, int chunkSize,
+			Consumer<? super List<T>> chunkConsumer, @Nullable Object... args) throws DataAccessException {
+
+		queryForChunks(new SimplePreparedStatementCreator(sql), newArgPreparedStatementSetter(args),
+				rowMapper, chunkSize, chunkConsumer);
+	}
+
 	@Override
 	@Nullable
 	public <T> T queryForObject(String sql, Object[] args, int[] argTypes, RowMapper<T> rowMapper)
@@ -1121,6 +1196,13 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 	public <T> int[][] batchUpdate(String sql, final Collection<T> batchArgs, final int batchSize,
 			final ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
 
+		return batchUpdate(sql, (Iterable<T>) batchArgs, batchSize, pss);
+	}
+
+	@Override
+	public <T> int[][] batchUpdate(String sql, final Iterable<T> batchArgs, final int batchSize,
+			final ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException {
+
 		if (logger.isDebugEnabled()) {
 			logger.debug("Executing SQL batch update [" + sql + "] with a batch size of " + batchSize);
 		}
@@ -1128,16 +1210,17 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 			List<int[]> rowsAffected = new ArrayList<>();
 			try {
 				boolean batchSupported = JdbcUtils.supportsBatchUpdates(ps.getConnection());
+				Iterator<T> iterator = batchArgs.iterator();
 				int n = 0;
-				for (T obj : batchArgs) {
-					pss.setValues(ps, obj);
+				while (iterator.hasNext()) {
+					pss.setValues(ps, iterator.next());
 					n++;
 					if (batchSupported) {
 						ps.addBatch();
-						if (n % batchSize == 0 || n == batchArgs.size()) {
+						if (n % batchSize == 0 || !iterator.hasNext()) {
 							if (logger.isTraceEnabled()) {
-								int batchIdx = (n % batchSize == 0) ? n / batchSize : (n / batchSize) + 1;
-								int items = n - ((n % batchSize == 0) ? n / batchSize - 1 : (n / batchSize)) * batchSize;
+								int batchIdx = (n + batchSize - 1) / batchSize;
+								int items = n - (batchIdx - 1) * batchSize;
 								logger.trace("Sending SQL batch update #" + batchIdx + " with " + items + " items");
 							}
 							rowsAffected.add(ps.executeBatch());
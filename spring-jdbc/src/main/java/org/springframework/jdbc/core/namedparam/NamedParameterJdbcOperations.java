@@ -18,6 +18,7 @@ package org.springframework.jdbc.core.namedparam;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.springframework.dao.DataAccessException;
@@ -258,6 +259,40 @@ public interface NamedParameterJdbcOperations {
 	<T> Stream<T> queryForStream(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper)
 			throws DataAccessException;
 
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list
+	 * of arguments to bind to the query, mapping each row to a Java object
+	 * via a RowMapper, and handing the mapped objects to the given consumer
+	 * in chunks of at most the given size.
+	 * @param sql the SQL query to execute
+	 * @param paramSource container of arguments to bind to the query
+	 * @param rowMapper object that will map one object per row
+	 * @param chunkSize the maximum number of mapped objects per chunk
+	 * @param chunkConsumer a callback that will receive each chunk of mapped objects
+	 * @throws DataAccessException if the query fails
+	 * @since 5.3
+	 * @see JdbcOperations#queryForChunks(org.springframework.jdbc.core.PreparedStatementCreator, RowMapper, int, Consumer)
+	 */
+	<T> void queryForChunks(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper,
+			int chunkSize, Consumer<? super List<T>> chunkConsumer) throws DataAccessException;
+
+	/**
+	 * Query given SQL to create a prepared statement from SQL and a list
+	 * of arguments to bind to the query, mapping each row to a Java object
+	 * via a RowMapper, and handing the mapped objects to the given consumer
+	 * in chunks of at most the given size.
+	 * @param sql the SQL query to execute
+	 * @param paramMap map of parameters to bind to the query
+	 * (leaving it to the PreparedStatement to guess the corresponding SQL type)
+	 * @param rowMapper object that will map one object per row
+	 * @param chunkSize the maximum number of mapped objects per chunk
+	 * @param chunkConsumer a callback that will receive each chunk of mapped objects
+	 * @throws DataAccessException if the query fails
+	 * @since 5.3
+	 */
+	<T> void queryForChunks(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper,
+			int chunkSize, Consumer<? super List<T>> chunkConsumer) throws DataAccessException;
+
 	/**
 	 * Query given SQL to create a prepared statement from SQL and a list
 	 * of arguments to bind to the query, mapping a single result row to a
@@ -548,4 +583,23 @@ public interface NamedParameterJdbcOperations {
 	 */
 	int[] batchUpdate(String sql, SqlParameterSource[] batchArgs);
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the given
+	 * arguments, which may be of unknown and potentially unbounded size.
+	 * <p>The SQL statement is parsed and expanded once, based on the first
+	 * {@link SqlParameterSource}, and then reused for all further arguments.
+	 * Each batch is sent as soon as it reaches the size indicated in 'batchSize'.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the {@link SqlParameterSource SqlParameterSources} containing
+	 * the arguments for the query, iterated only once
+	 * @param batchSize batch size
+	 * @return an array containing for each batch another array containing the numbers of
+	 * rows affected by each update in the batch
+	 * (may also contain special JDBC-defined negative values for affected rows such as
+	 * {@link java.sql.Statement#SUCCESS_NO_INFO}/{@link java.sql.Statement#EXECUTE_FAILED})
+	 * @throws DataAccessException if there is any problem issuing the update
+	 * @since 5.3
+	 */
+	int[][] batchUpdate(String sql, Iterable<? extends SqlParameterSource> batchArgs, int batchSize);
+
 }
@@ -18,10 +18,14 @@ package org.springframework.jdbc.core.namedparam;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
@@ -235,6 +239,21 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 		return queryForStream(sql, new MapSqlParameterSource(paramMap), rowMapper);
 	}
 
+	@Override
+	public <T> void queryForChunks(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper,
+			int chunkSize, Consumer<? super List<T>> chunkConsumer) throws DataAccessException {
+
+		getJdbcOperations().queryForChunks(
+				getPreparedStatementCreator(sql, paramSource), rowMapper, chunkSize, chunkConsumer);
+	}
+
+	@Override
+	public <T> void queryForChunks(String sql, Map<String, ?> paramMap, RowMapper<T> rowMapper,
+			int chunkSize, Consumer<? super List<T>> chunkConsumer) throws DataAccessException {
+
+		queryForChunks(sql, new MapSqlParameterSource(paramMap), rowMapper, chunkSize, chunkConsumer);
+	}
+
 	@Override
 	@Nullable
 	public <T> T queryForObject(String sql, SqlParameterSource paramSource, RowMapper<T> rowMapper)
@@ -385,6 +404,25 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 				});
 	}
 
+	@Override
+	public int[][] batchUpdate(String sql, Iterable<? extends SqlParameterSource> batchArgs, int batchSize) {
+		Iterator<? extends SqlParameterSource> iterator = batchArgs.iterator();
+		if (!iterator.hasNext()) {
+			return new int[0][];
+		}
+
+		SqlParameterSource firstArgs = iterator.next();
+		ParsedSql parsedSql = getParsedSql(sql);
+		PreparedStatementCreatorFactory pscf = getPreparedStatementCreatorFactory(parsedSql, firstArgs);
+		Iterable<SqlParameterSource> allArgs = Stream.<SqlParameterSource>concat(Stream.of(firstArgs),
+				StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false))::iterator;
+
+		return getJdbcOperations().batchUpdate(pscf.getSql(), allArgs, batchSize, (ps, paramSource) -> {
+			Object[] values = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+			pscf.newPreparedStatementSetter(values).setValues(ps);
+		});
+	}
+
 
 	/**
 	 * Build a {@link PreparedStatementCreator} based on the given SQL and named parameters.
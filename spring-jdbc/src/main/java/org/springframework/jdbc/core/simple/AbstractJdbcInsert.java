@@ -562,6 +562,25 @@ public abstract class AbstractJdbcInsert {
 		return executeBatchInternal(batchValues);
 	}
 
+	/**
+	 * Delegate method that executes batch inserts using the passed-in
+	 * {@link SqlParameterSource SqlParameterSources}, sending a JDBC batch
+	 * every {@code batchSize} rows.
+	 * @param batch the SqlParameterSources with parameter names and values to be used in insert
+	 * @param batchSize the number of rows per JDBC batch
+	 * @return array of number of rows affected for each batch
+	 * @since 5.3
+	 */
+	protected int[][] doExecuteBatch(Iterable<? extends SqlParameterSource> batch, int batchSize) {
+		checkCompiled();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing statement " + getInsertString() + " in batches of size: " + batchSize);
+		}
+		return getJdbcTemplate().batchUpdate(getInsertString(), batch, batchSize,
+				(ps, parameterSource) -> setParameterValues(
+						ps, matchInParameterValuesWithInsertColumns(parameterSource), getInsertTypes()));
+	}
+
 	/**
 	 * Delegate method to execute the batch insert.
 	 */
@@ -153,4 +153,9 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return doExecuteBatch(batch);
 	}
 
+	@Override
+	public int[][] executeBatch(Iterable<? extends SqlParameterSource> batch, int batchSize) {
+		return doExecuteBatch(batch, batchSize);
+	}
+
 }
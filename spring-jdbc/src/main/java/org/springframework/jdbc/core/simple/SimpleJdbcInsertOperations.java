@@ -150,4 +150,16 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	int[] executeBatch(SqlParameterSource... batch);
 
+	/**
+	 * Execute batch inserts for the given values, which may be of unknown and
+	 * potentially unbounded size, sending a JDBC batch every {@code batchSize} rows.
+	 * @param batch the SqlParameterSources containing values for the batch,
+	 * iterated only once
+	 * @param batchSize the number of rows per JDBC batch
+	 * @return an array containing for each batch another array containing the
+	 * number of rows affected as returned by the JDBC driver
+	 * @since 5.3
+	 */
+	int[][] executeBatch(Iterable<? extends SqlParameterSource> batch, int batchSize);
+
 }
@@ -16,6 +16,8 @@
 
 package org.springframework.jdbc.core;
 
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
@@ -30,6 +32,10 @@ import org.springframework.jdbc.core.test.SpacePerson;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Thomas Risberg
@@ -104,6 +110,58 @@ public class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 						new BeanPropertyRowMapper<>(ExtendedPerson.class, true)));
 	}
 
+	@Test
+	public void testMappingWithSameMapperForDifferentColumns() throws Exception {
+		BeanPropertyRowMapper<SpacePerson> mapper = new BeanPropertyRowMapper<>(SpacePerson.class);
+
+		Mock mock = new Mock(MockType.THREE);
+		List<SpacePerson> result = mock.getJdbcTemplate().query(
+				"select last_name as \"Last Name\", age, birth_date, balance from people", mapper);
+		assertThat(result.size()).isEqualTo(1);
+		verifyPerson(result.get(0));
+		mock.verifyClosed();
+
+		mock = new Mock();
+		result = mock.getJdbcTemplate().query("select name, age, birth_date, balance from people", mapper);
+		assertThat(result.size()).isEqualTo(1);
+		assertThat(result.get(0).getLastName()).isNull();
+		assertThat(result.get(0).getAge()).isEqualTo(22L);
+		mock.verifyClosed();
+	}
+
+	@Test
+	public void testMetaDataCheckedOncePerResultSet() throws Exception {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+		ResultSet rs1 = mockResultSet("name");
+		ResultSet rs2 = mockResultSet("age");
+
+		for (int rowNumber = 0; rowNumber < 3; rowNumber++) {
+			assertThat(mapper.mapRow(rs1, rowNumber).getName()).isEqualTo("Bubba");
+		}
+		verify(rs1, times(1)).getMetaData();
+
+		for (int rowNumber = 0; rowNumber < 2; rowNumber++) {
+			Person person = mapper.mapRow(rs2, rowNumber);
+			assertThat(person.getName()).isNull();
+			assertThat(person.getAge()).isEqualTo(22L);
+		}
+		verify(rs2, times(1)).getMetaData();
+
+		assertThat(mapper.mapRow(rs1, 3).getName()).isEqualTo("Bubba");
+		verify(rs1, times(2)).getMetaData();
+	}
+
+	private static ResultSet mockResultSet(String columnLabel) throws Exception {
+		ResultSet rs = mock(ResultSet.class);
+		ResultSetMetaData rsmd = mock(ResultSetMetaData.class);
+		given(rs.getMetaData()).willReturn(rsmd);
+		given(rsmd.getColumnCount()).willReturn(1);
+		given(rsmd.getColumnLabel(1)).willReturn(columnLabel);
+		given(rs.getString(1)).willReturn("Bubba");
+		given(rs.getLong(1)).willReturn(22L);
+		return rs;
+	}
+
 	@Test
 	public void testMappingNullValue() throws Exception {
 		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
@@ -24,6 +24,9 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -41,6 +44,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -384,6 +388,47 @@ public class JdbcTemplateQueryTests {
 		verify(this.preparedStatement).close();
 	}
 
+	@Test
+	public void testQueryForChunksWithArgsAndRowMapper() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID > ?";
+		given(this.resultSet.next()).willReturn(true, true, true, true, true, false);
+		given(this.resultSet.getInt(1)).willReturn(11, 12, 13, 14, 15);
+		List<List<Integer>> chunks = new ArrayList<>();
+		this.template.queryForChunks(sql, (rs, rowNum) -> rs.getInt(1), 2, chunks::add, 3);
+		assertThat(chunks).containsExactly(Arrays.asList(11, 12), Arrays.asList(13, 14), Collections.singletonList(15));
+		verify(this.preparedStatement).setFetchSize(2);
+		verify(this.preparedStatement).setObject(1, 3);
+		verify(this.resultSet).close();
+		verify(this.preparedStatement).close();
+		verify(this.connection).close();
+	}
+
+	@Test
+	public void testQueryForChunksKeepsConfiguredFetchSize() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID > ?";
+		given(this.resultSet.next()).willReturn(true, false);
+		given(this.resultSet.getInt(1)).willReturn(11);
+		this.template.setFetchSize(50);
+		List<List<Integer>> chunks = new ArrayList<>();
+		this.template.queryForChunks(sql, (rs, rowNum) -> rs.getInt(1), 2, chunks::add, 3);
+		assertThat(chunks).containsExactly(Collections.singletonList(11));
+		verify(this.preparedStatement).setFetchSize(50);
+		verify(this.preparedStatement, never()).setFetchSize(2);
+		verify(this.resultSet).close();
+		verify(this.preparedStatement).close();
+	}
+
+	@Test
+	public void testQueryForChunksWithEmptyResult() throws Exception {
+		String sql = "SELECT AGE FROM CUSTMR WHERE ID > ?";
+		given(this.resultSet.next()).willReturn(false);
+		List<List<Integer>> chunks = new ArrayList<>();
+		this.template.queryForChunks(sql, (rs, rowNum) -> rs.getInt(1), 2, chunks::add, 3);
+		assertThat(chunks).isEmpty();
+		verify(this.resultSet).close();
+		verify(this.preparedStatement).close();
+	}
+
 	@Test
 	public void testQueryForObjectWithArgsAndInteger() throws Exception {
 		String sql = "SELECT AGE FROM CUSTMR WHERE ID = ?";
@@ -32,6 +32,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -780,6 +781,48 @@ public class JdbcTemplateTests {
 		verify(this.connection, atLeastOnce()).close();
 	}
 
+	@Test
+	public void testBatchUpdateWithIterableAndPartialFinalBatch() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		Iterable<Integer> ids = Stream.of(100, 200, 300, 400, 500)::iterator;
+
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1, 1}, new int[] {1});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument.intValue());
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		int[][] actualRowsAffected = template.batchUpdate(sql, ids, 2, setter);
+		assertThat(actualRowsAffected.length).as("executed 3 batches").isEqualTo(3);
+		assertThat(actualRowsAffected[0]).containsExactly(1, 1);
+		assertThat(actualRowsAffected[1]).containsExactly(1, 1);
+		assertThat(actualRowsAffected[2]).containsExactly(1);
+
+		verify(this.preparedStatement, times(5)).addBatch();
+		verify(this.preparedStatement, times(3)).executeBatch();
+		verify(this.preparedStatement).setInt(1, 500);
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
+	@Test
+	public void testBatchUpdateWithEmptyIterable() throws Exception {
+		final String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		Iterable<Integer> ids = Collections::emptyIterator;
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument.intValue());
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		int[][] actualRowsAffected = template.batchUpdate(sql, ids, 2, setter);
+		assertThat(actualRowsAffected.length).isEqualTo(0);
+
+		verify(this.preparedStatement, never()).addBatch();
+		verify(this.preparedStatement, never()).executeBatch();
+		verify(this.preparedStatement).close();
+		verify(this.connection, atLeastOnce()).close();
+	}
+
 	@Test
 	public void testCouldNotGetConnectionForOperationOrExceptionTranslator() throws SQLException {
 		SQLException sqlException = new SQLException("foo", "07xxx");
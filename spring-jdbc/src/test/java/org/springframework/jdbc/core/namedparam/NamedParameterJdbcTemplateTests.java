@@ -519,6 +519,29 @@ public class NamedParameterJdbcTemplateTests {
 		verify(connection, atLeastOnce()).close();
 	}
 
+	@Test
+	public void testBatchUpdateWithIterableAndBatchSize() throws Exception {
+		Stream<SqlParameterSource> ids = Stream.of(100, 200, 300).map(id -> new MapSqlParameterSource("id", id));
+
+		given(preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1});
+		given(connection.getMetaData()).willReturn(databaseMetaData);
+		namedParameterTemplate = new NamedParameterJdbcTemplate(new JdbcTemplate(dataSource, false));
+
+		int[][] actualRowsAffected = namedParameterTemplate.batchUpdate(
+				"UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = :id", ids::iterator, 2);
+		assertThat(actualRowsAffected.length).as("executed 2 batches").isEqualTo(2);
+		assertThat(actualRowsAffected[0]).containsExactly(1, 1);
+		assertThat(actualRowsAffected[1]).containsExactly(1);
+		verify(connection).prepareStatement("UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?");
+		verify(preparedStatement).setObject(1, 100);
+		verify(preparedStatement).setObject(1, 200);
+		verify(preparedStatement).setObject(1, 300);
+		verify(preparedStatement, times(3)).addBatch();
+		verify(preparedStatement, times(2)).executeBatch();
+		verify(preparedStatement, atLeastOnce()).close();
+		verify(connection, atLeastOnce()).close();
+	}
+
 	@Test
 	public void testBatchUpdateWithInClause() throws Exception {
 		@SuppressWarnings("unchecked")
@@ -18,8 +18,11 @@ package org.springframework.jdbc.core.simple;
 
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -28,10 +31,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -81,4 +90,56 @@ public class SimpleJdbcInsertTests {
 		verify(resultSet).close();
 	}
 
+	@Test
+	public void testExecuteBatchWithIterableAndPartialFinalBatch() throws Exception {
+		PreparedStatement preparedStatement = mockBatchStatement();
+		given(preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1});
+
+		SimpleJdbcInsertOperations insert = new SimpleJdbcInsert(dataSource).withTableName("x")
+				.usingColumns("id", "name").withoutTableColumnMetaDataAccess();
+		Iterable<SqlParameterSource> batch = Stream.of(1, 2, 3).<SqlParameterSource>map(id ->
+				new MapSqlParameterSource("id", id).addValue("name", "name" + id))::iterator;
+
+		int[][] rowsAffected = insert.executeBatch(batch, 2);
+		assertThat(rowsAffected.length).as("executed 2 batches").isEqualTo(2);
+		assertThat(rowsAffected[0]).containsExactly(1, 1);
+		assertThat(rowsAffected[1]).containsExactly(1);
+		verify(preparedStatement).setObject(1, 3);
+		verify(preparedStatement).setString(2, "name3");
+		verify(preparedStatement, times(3)).addBatch();
+		verify(preparedStatement, times(2)).executeBatch();
+		verify(preparedStatement).close();
+	}
+
+	@Test
+	public void testExecuteBatchWithEmptyIterable() throws Exception {
+		PreparedStatement preparedStatement = mockBatchStatement();
+
+		SimpleJdbcInsertOperations insert = new SimpleJdbcInsert(dataSource).withTableName("x")
+				.usingColumns("id", "name").withoutTableColumnMetaDataAccess();
+
+		int[][] rowsAffected = insert.executeBatch(Collections::emptyIterator, 2);
+		assertThat(rowsAffected.length).isEqualTo(0);
+		verify(preparedStatement, never()).addBatch();
+		verify(preparedStatement, never()).executeBatch();
+		verify(preparedStatement).close();
+	}
+
+	/**
+	 * Mock a separate connection for the batch execution, following the one
+	 * used for retrieving the database meta-data when compiling the insert.
+	 */
+	private PreparedStatement mockBatchStatement() throws Exception {
+		Connection batchConnection = mock(Connection.class);
+		DatabaseMetaData batchMetaData = mock(DatabaseMetaData.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		given(databaseMetaData.getDatabaseProductName()).willReturn("MyDB");
+		given(batchMetaData.supportsBatchUpdates()).willReturn(true);
+		given(batchConnection.getMetaData()).willReturn(batchMetaData);
+		given(batchConnection.prepareStatement(anyString())).willReturn(preparedStatement);
+		given(preparedStatement.getConnection()).willReturn(batchConnection);
+		given(dataSource.getConnection()).willReturn(connection, batchConnection);
+		return preparedStatement;
+	}
+
 }
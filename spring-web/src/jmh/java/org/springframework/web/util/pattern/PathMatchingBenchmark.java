@@ -19,7 +19,9 @@ package org.springframework.web.util.pattern;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -31,6 +33,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.AntPathMatcher;
 
 /**
@@ -74,6 +77,88 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	/**
+	 * Index of patterns by their literal first segment, as kept by the
+	 * {@code AbstractHandlerMethodMapping} variants of Spring MVC and WebFlux.
+	 */
+	@State(Scope.Benchmark)
+	public static class AllRoutesPathPrefixIndex extends PatternParserData {
+
+		Map<String, List<PathPattern>> prefixIndex = new HashMap<>();
+
+		List<PathPattern> unprefixedPatterns = new ArrayList<>();
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.allRoutes());
+			for (PathPattern pattern : this.patterns) {
+				String prefix = pattern.getLiteralFirstSegment();
+				if (prefix != null) {
+					this.prefixIndex.computeIfAbsent(toLowerCase(prefix), key -> new ArrayList<>()).add(pattern);
+				}
+				else {
+					this.unprefixedPatterns.add(pattern);
+				}
+			}
+		}
+
+		List<PathPattern> getCandidates(PathContainer path) {
+			String prefix = (!this.prefixIndex.isEmpty() ? getRequestPathPrefix(path.value()) : null);
+			if (prefix == null) {
+				return this.patterns;
+			}
+			List<PathPattern> candidates = this.prefixIndex.get(prefix);
+			if (candidates == null) {
+				return this.unprefixedPatterns;
+			}
+			if (this.unprefixedPatterns.isEmpty()) {
+				return candidates;
+			}
+			List<PathPattern> result = new ArrayList<>(candidates.size() + this.unprefixedPatterns.size());
+			result.addAll(candidates);
+			result.addAll(this.unprefixedPatterns);
+			return result;
+		}
+
+		// Same derivation as AbstractHandlerMethodMapping#getRequestPathPrefix
+
+		@Nullable
+		private static String getRequestPathPrefix(String urlPath) {
+			if (urlPath.isEmpty() || urlPath.charAt(0) != '/') {
+				return null;
+			}
+			int end = urlPath.indexOf('/', 1);
+			String segment = (end != -1 ? urlPath.substring(1, end) : urlPath.substring(1));
+			// Encoded characters and path parameters are only resolved by the matching itself
+			if (segment.indexOf('%') != -1 || segment.indexOf(';') != -1) {
+				return null;
+			}
+			return toLowerCase(segment);
+		}
+
+		private static String toLowerCase(String segment) {
+			char[] chars = segment.toCharArray();
+			for (int i = 0; i < chars.length; i++) {
+				chars[i] = Character.toLowerCase(chars[i]);
+			}
+			return new String(chars);
+		}
+	}
+
+	@Benchmark
+	public void matchAndSortAllRoutesByPathPrefixWithPathPatternParser(AllRoutesPathPrefixIndex data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			List<PathPattern> matches = new ArrayList<>();
+			for (PathPattern pattern : data.getCandidates(path)) {
+				if (pattern.matches(path)) {
+					matches.add(pattern);
+				}
+			}
+			Collections.sort(matches);
+			bh.consume(matches);
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class StaticRoutesPatternParser extends PatternParserData {
 
@@ -39,12 +39,23 @@ class ReadOnlyHttpHeaders extends HttpHeaders {
 
 	private static final long serialVersionUID = -8578554704772377436L;
 
+	private static final long UNRESOLVED = -2;
+
 	@Nullable
 	private MediaType cachedContentType;
 
 	@Nullable
 	private List<MediaType> cachedAccept;
 
+	private long cachedContentLength = UNRESOLVED;
+
+	private long cachedIfModifiedSince = UNRESOLVED;
+
+	private long cachedIfUnmodifiedSince = UNRESOLVED;
+
+	@Nullable
+	private List<String> cachedIfNoneMatch;
+
 
 	ReadOnlyHttpHeaders(MultiValueMap<String, String> headers) {
 		super(headers);
@@ -75,6 +86,48 @@ class ReadOnlyHttpHeaders extends HttpHeaders {
 		}
 	}
 
+	@Override
+	public long getContentLength() {
+		long contentLength = this.cachedContentLength;
+		if (contentLength == UNRESOLVED) {
+			contentLength = super.getContentLength();
+			this.cachedContentLength = contentLength;
+		}
+		return contentLength;
+	}
+
+	@Override
+	public long getIfModifiedSince() {
+		long ifModifiedSince = this.cachedIfModifiedSince;
+		if (ifModifiedSince == UNRESOLVED) {
+			ifModifiedSince = super.getIfModifiedSince();
+			this.cachedIfModifiedSince = ifModifiedSince;
+		}
+		return ifModifiedSince;
+	}
+
+	@Override
+	public long getIfUnmodifiedSince() {
+		long ifUnmodifiedSince = this.cachedIfUnmodifiedSince;
+		if (ifUnmodifiedSince == UNRESOLVED) {
+			ifUnmodifiedSince = super.getIfUnmodifiedSince();
+			this.cachedIfUnmodifiedSince = ifUnmodifiedSince;
+		}
+		return ifUnmodifiedSince;
+	}
+
+	@Override
+	public List<String> getIfNoneMatch() {
+		if (this.cachedIfNoneMatch != null) {
+			return this.cachedIfNoneMatch;
+		}
+		else {
+			List<String> ifNoneMatch = Collections.unmodifiableList(super.getIfNoneMatch());
+			this.cachedIfNoneMatch = ifNoneMatch;
+			return ifNoneMatch;
+		}
+	}
+
 	@Override
 	public void clearContentHeaders() {
 		// No-op.
@@ -92,6 +92,29 @@ public class ResourceHttpMessageWriter implements HttpMessageWriter<Resource> {
 	}
 
 
+	/**
+	 * Set the minimum size of file resources and resource regions to write
+	 * from memory-mapped buffers when zero-copy transfer is not available.
+	 * <p>By default this is set to -1, i.e. resources are not memory-mapped.
+	 * @since 5.3
+	 * @see ResourceEncoder#setMappedReadThreshold(long)
+	 * @see ResourceRegionEncoder#setMappedReadThreshold(long)
+	 */
+	public void setMappedReadThreshold(long mappedReadThreshold) {
+		this.encoder.setMappedReadThreshold(mappedReadThreshold);
+		this.regionEncoder.setMappedReadThreshold(mappedReadThreshold);
+	}
+
+	/**
+	 * Return the minimum size of file resources and resource regions to write
+	 * from memory-mapped buffers.
+	 * @since 5.3
+	 */
+	public long getMappedReadThreshold() {
+		return this.encoder.getMappedReadThreshold();
+	}
+
+
 	@Override
 	public boolean canWrite(ResolvableType elementType, @Nullable MediaType mediaType) {
 		return this.encoder.canEncode(elementType, mediaType);
@@ -17,6 +17,7 @@
 package org.springframework.http.codec.json;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
@@ -44,6 +46,7 @@ import org.springframework.core.codec.EncodingException;
 import org.springframework.core.codec.Hints;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.log.LogFormatUtils;
 import org.springframework.http.MediaType;
 import org.springframework.http.codec.HttpMessageEncoder;
@@ -57,7 +60,8 @@ import org.springframework.util.MimeType;
 /**
  * Base class providing support methods for Jackson 2.9 encoding. For non-streaming use
  * cases, {@link Flux} elements are collected into a {@link List} before serialization for
- * performance reason.
+ * performance reason, unless {@link #setIncrementalArrayEncoding incremental array encoding}
+ * is enabled.
  *
  * @author Sebastien Deleuze
  * @author Arjen Poutsma
@@ -80,6 +84,10 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private boolean incrementalArrayEncoding = false;
+
+	private int incrementalArrayBufferSize = 8192;
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -98,6 +106,55 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		this.streamingMediaTypes.addAll(mediaTypes);
 	}
 
+	/**
+	 * Whether to encode a non-streaming {@link Flux} as an array that is
+	 * written element by element directly into buffers from the given
+	 * {@link DataBufferFactory}, rather than collecting all elements into a
+	 * {@link List} and serializing it at once. A {@link DataBuffer} is emitted
+	 * whenever the output reaches the
+	 * {@link #setIncrementalArrayBufferSize buffer size}.
+	 * <p>This reduces memory consumption for large collections, at the expense
+	 * of a response that may already be committed, and therefore truncated,
+	 * if an error occurs after the first element.
+	 * <p>By default this is set to {@code false}.
+	 * @since 5.3
+	 */
+	public void setIncrementalArrayEncoding(boolean incrementalArrayEncoding) {
+		this.incrementalArrayEncoding = incrementalArrayEncoding;
+	}
+
+	/**
+	 * Return whether a non-streaming {@link Flux} is encoded element by element.
+	 * @since 5.3
+	 * @see #setIncrementalArrayEncoding(boolean)
+	 */
+	public boolean isIncrementalArrayEncoding() {
+		return this.incrementalArrayEncoding;
+	}
+
+	/**
+	 * Set the number of bytes to accumulate before emitting a {@link DataBuffer}
+	 * when {@link #setIncrementalArrayEncoding incremental array encoding} is
+	 * enabled. Elements are never split across buffers, so a buffer may exceed
+	 * this size by up to one element.
+	 * <p>By default this is set to 8192.
+	 * @since 5.3
+	 */
+	public void setIncrementalArrayBufferSize(int incrementalArrayBufferSize) {
+		Assert.isTrue(incrementalArrayBufferSize > 0, "Buffer size must be greater than 0");
+		this.incrementalArrayBufferSize = incrementalArrayBufferSize;
+	}
+
+	/**
+	 * Return the number of bytes to accumulate before emitting a {@link DataBuffer}
+	 * with incremental array encoding.
+	 * @since 5.3
+	 * @see #setIncrementalArrayBufferSize(int)
+	 */
+	public int getIncrementalArrayBufferSize() {
+		return this.incrementalArrayBufferSize;
+	}
+
 
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
@@ -146,6 +203,9 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 					return Flux.error(ex);
 				}
 			}
+			else if (this.incrementalArrayEncoding) {
+				return encodeArrayIncrementally(inputStream, bufferFactory, elementType, mimeType, hints);
+			}
 			else { // non-streaming
 				ResolvableType listType = ResolvableType.forClassWithGenerics(List.class, elementType);
 				return Flux.from(inputStream)
@@ -229,6 +289,26 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		return buffer;
 	}
 
+	private Flux<DataBuffer> encodeArrayIncrementally(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+			ResolvableType elementType, @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+
+		// Writer and generator are created per subscription, and reused for all elements
+		return Flux.using(
+				() -> new ArrayEncodingContext(bufferFactory, getObjectMapper().getFactory(),
+						createObjectWriter(elementType, mimeType, hints), getJsonEncoding(mimeType),
+						this.incrementalArrayBufferSize),
+				context -> Flux.from(inputStream)
+						.<DataBuffer>handle((value, sink) -> {
+							logValue(hints, value);
+							DataBuffer buffer = context.encodeElement(value);
+							if (buffer != null) {
+								sink.next(buffer);
+							}
+						})
+						.concatWith(Mono.fromCallable(context::encodeEnd)),
+				ArrayEncodingContext::close);
+	}
+
 	private void logValue(@Nullable Map<String, Object> hints, Object value) {
 		if (!Hints.isLoggingSuppressed(hints)) {
 			LogFormatUtils.traceDebug(logger, traceOn -> {
@@ -294,6 +374,140 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 	}
 
 
+	/**
+	 * Holds the resources for the incremental encoding of an array, writing
+	 * the output of a single {@link JsonGenerator} into a {@link DataBuffer}
+	 * that is handed out once it reaches the configured size.
+	 */
+	private static class ArrayEncodingContext {
+
+		private final DataBufferOutputStream outputStream;
+
+		private final JsonGenerator generator;
+
+		private final SequenceWriter sequenceWriter;
+
+		private final int bufferSize;
+
+		private boolean closed;
+
+		ArrayEncodingContext(DataBufferFactory bufferFactory, JsonFactory jsonFactory, ObjectWriter writer,
+				JsonEncoding encoding, int bufferSize) throws IOException {
+
+			this.outputStream = new DataBufferOutputStream(bufferFactory, bufferSize);
+			this.generator = jsonFactory.createGenerator(this.outputStream, encoding);
+			this.sequenceWriter = writer.writeValuesAsArray(this.generator);
+			this.bufferSize = bufferSize;
+		}
+
+		// Encoding and closing are synchronized since a cancellation may close
+		// the context from another thread while an element is being encoded
+
+		@Nullable
+		public synchronized DataBuffer encodeElement(Object value) {
+			if (this.closed) {
+				return null;
+			}
+			try {
+				this.sequenceWriter.write(value);
+				this.sequenceWriter.flush();
+			}
+			catch (InvalidDefinitionException ex) {
+				throw new CodecException("Type definition error: " + ex.getType(), ex);
+			}
+			catch (JsonProcessingException ex) {
+				throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+			}
+			catch (IOException ex) {
+				throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
+			}
+			return (this.outputStream.size() >= this.bufferSize ? this.outputStream.takeBuffer() : null);
+		}
+
+		@Nullable
+		public synchronized DataBuffer encodeEnd() throws IOException {
+			if (this.closed) {
+				return null;
+			}
+			this.sequenceWriter.close();
+			this.generator.flush();
+			return this.outputStream.takeBuffer();
+		}
+
+		public synchronized void close() {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			try {
+				this.generator.close();
+			}
+			catch (IOException ex) {
+				// ignore: only releasing recycled generator buffers
+			}
+			this.outputStream.releaseBuffer();
+		}
+	}
+
+
+	/**
+	 * {@link OutputStream} writing into a {@link DataBuffer} that is allocated
+	 * on demand, with at least the given initial capacity, and replaced once taken.
+	 */
+	private static class DataBufferOutputStream extends OutputStream {
+
+		private final DataBufferFactory bufferFactory;
+
+		private final int initialCapacity;
+
+		@Nullable
+		private DataBuffer buffer;
+
+		DataBufferOutputStream(DataBufferFactory bufferFactory, int initialCapacity) {
+			this.bufferFactory = bufferFactory;
+			this.initialCapacity = initialCapacity;
+		}
+
+		@Override
+		public void write(int b) {
+			getBuffer(1).write((byte) b);
+		}
+
+		@Override
+		public void write(byte[] bytes, int off, int len) {
+			getBuffer(len).write(bytes, off, len);
+		}
+
+		private DataBuffer getBuffer(int length) {
+			DataBuffer buffer = this.buffer;
+			if (buffer == null) {
+				buffer = this.bufferFactory.allocateBuffer(Math.max(this.initialCapacity, length));
+				this.buffer = buffer;
+			}
+			return buffer;
+		}
+
+		public int size() {
+			DataBuffer buffer = this.buffer;
+			return (buffer != null ? buffer.readableByteCount() : 0);
+		}
+
+		public DataBuffer takeBuffer() {
+			DataBuffer buffer = getBuffer(0);
+			this.buffer = null;
+			return buffer;
+		}
+
+		public void releaseBuffer() {
+			DataBuffer buffer = this.buffer;
+			this.buffer = null;
+			if (buffer != null) {
+				DataBufferUtils.release(buffer);
+			}
+		}
+	}
+
+
 	// HttpMessageEncoder
 
 	@Override
@@ -17,6 +17,7 @@
 package org.springframework.http.codec.json;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
@@ -37,6 +38,7 @@ import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferLimitException;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.PooledDataBuffer;
 
 /**
  * {@link Function} to transform a JSON stream of arbitrary size, byte array
@@ -90,12 +92,8 @@ final class Jackson2Tokenizer {
 
 	private List<TokenBuffer> tokenize(DataBuffer dataBuffer) {
 		int bufferSize = dataBuffer.readableByteCount();
-		byte[] bytes = new byte[bufferSize];
-		dataBuffer.read(bytes);
-		DataBufferUtils.release(dataBuffer);
-
 		try {
-			this.inputFeeder.feedInput(bytes, 0, bytes.length);
+			feedInput(dataBuffer);
 			List<TokenBuffer> result = parseTokenBufferFlux();
 			assertInMemorySize(bufferSize, result);
 			return result;
@@ -106,6 +104,26 @@ final class Jackson2Tokenizer {
 		catch (IOException ex) {
 			throw Exceptions.propagate(ex);
 		}
+		finally {
+			DataBufferUtils.release(dataBuffer);
+		}
+	}
+
+	private void feedInput(DataBuffer dataBuffer) throws IOException {
+		int bufferSize = dataBuffer.readableByteCount();
+		if (!(dataBuffer instanceof PooledDataBuffer)) {
+			ByteBuffer byteBuffer = dataBuffer.asByteBuffer();
+			if (byteBuffer.hasArray()) {
+				// Feed the backing array as-is: it is not recycled once released,
+				// so the parser may keep referring to it until the next input
+				int offset = byteBuffer.arrayOffset() + byteBuffer.position();
+				this.inputFeeder.feedInput(byteBuffer.array(), offset, offset + bufferSize);
+				return;
+			}
+		}
+		byte[] bytes = new byte[bufferSize];
+		dataBuffer.read(bytes);
+		this.inputFeeder.feedInput(bytes, 0, bytes.length);
 	}
 
 	private Flux<TokenBuffer> endOfInput() {
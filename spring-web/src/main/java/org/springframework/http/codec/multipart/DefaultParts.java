@@ -16,10 +16,13 @@
 
 package org.springframework.http.codec.multipart;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
@@ -71,6 +74,38 @@ abstract class DefaultParts {
 	}
 
 
+	/**
+	 * Create a new {@link Part} or {@link FilePart} whose content is stored in
+	 * the given file. Returns {@link FilePart} if the {@code Content-Disposition}
+	 * of the given headers contains a filename, or a "normal" {@link Part} otherwise.
+	 * A returned {@code FilePart} transfers its content by copying the file
+	 * rather than by reading it into data buffers.
+	 * @param headers the part headers
+	 * @param file the file containing the content of the part
+	 * @param blockingOperationScheduler the scheduler used for reading and copying the file
+	 * @return {@link Part} or {@link FilePart}, depending on {@link HttpHeaders#getContentDisposition()}
+	 */
+	public static Part part(HttpHeaders headers, Path file, Scheduler blockingOperationScheduler) {
+		Assert.notNull(headers, "Headers must not be null");
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(blockingOperationScheduler, "Scheduler must not be null");
+
+		Flux<DataBuffer> content = DataBufferUtils
+				.readByteChannel(
+						() -> Files.newByteChannel(file, StandardOpenOption.READ),
+						DefaultDataBufferFactory.sharedInstance, 1024)
+				.subscribeOn(blockingOperationScheduler);
+
+		String filename = headers.getContentDisposition().getFilename();
+		if (filename != null) {
+			return new FileContentFilePart(headers, content, file, blockingOperationScheduler);
+		}
+		else {
+			return new DefaultPart(headers, content);
+		}
+	}
+
+
 	/**
 	 * Abstract base class.
 	 */
@@ -204,4 +239,29 @@ abstract class DefaultParts {
 
 	}
 
+
+	/**
+	 * {@link FilePart} whose content is stored in a file.
+	 */
+	private static class FileContentFilePart extends DefaultFilePart {
+
+		private final Path file;
+
+		private final Scheduler blockingOperationScheduler;
+
+		public FileContentFilePart(HttpHeaders headers, Flux<DataBuffer> content, Path file,
+				Scheduler blockingOperationScheduler) {
+
+			super(headers, content);
+			this.file = file;
+			this.blockingOperationScheduler = blockingOperationScheduler;
+		}
+
+		@Override
+		public Mono<Void> transferTo(Path dest) {
+			return DataBufferUtils.transferTo(this.file, dest)
+					.subscribeOn(this.blockingOperationScheduler);
+		}
+	}
+
 }
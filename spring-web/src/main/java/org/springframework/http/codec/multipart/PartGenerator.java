@@ -19,7 +19,7 @@ package org.springframework.http.codec.multipart;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.WritableByteChannel;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
@@ -581,7 +581,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Storing multipart data in file " + tempFile);
 				}
-				WritableByteChannel channel = Files.newByteChannel(tempFile, StandardOpenOption.WRITE);
+				FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE);
 				return new WritingFileState(this, tempFile, channel);
 			}
 			catch (IOException ex) {
@@ -627,7 +627,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 		private final Path file;
 
-		private final WritableByteChannel channel;
+		private final FileChannel channel;
 
 		private final AtomicLong byteCount;
 
@@ -667,21 +667,12 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 		@Override
 		public void partComplete(boolean finalPart) {
 			MultipartUtils.closeChannel(this.channel);
-			Flux<DataBuffer> content = partContent();
-			emitPart(DefaultParts.part(this.headers, content));
+			emitPart(DefaultParts.part(this.headers, this.file, PartGenerator.this.blockingOperationScheduler));
 			if (finalPart) {
 				emitComplete();
 			}
 		}
 
-		private Flux<DataBuffer> partContent() {
-			return DataBufferUtils
-					.readByteChannel(
-							() -> Files.newByteChannel(this.file, StandardOpenOption.READ),
-							DefaultDataBufferFactory.sharedInstance, 1024)
-					.subscribeOn(PartGenerator.this.blockingOperationScheduler);
-		}
-
 		@Override
 		public void dispose() {
 			if (this.closeOnDispose) {
@@ -704,7 +695,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 		private final Path file;
 
-		private final WritableByteChannel channel;
+		private final FileChannel channel;
 
 		private final AtomicLong byteCount;
 
@@ -713,7 +704,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 		private volatile boolean finalPart;
 
 
-		public WritingFileState(CreateFileState state, Path file, WritableByteChannel channel) {
+		public WritingFileState(CreateFileState state, Path file, FileChannel channel) {
 			this.headers = state.headers;
 			this.file = file;
 			this.channel = channel;
@@ -748,10 +739,9 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 					this::writeComplete);
 		}
 
-		public void writeBuffers(Iterable<DataBuffer> dataBuffers) {
-			Flux.fromIterable(dataBuffers)
-					.concatMap(this::writeInternal)
-					.then()
+		public void writeBuffers(Collection<DataBuffer> dataBuffers) {
+			Mono.just(dataBuffers)
+					.flatMap(this::writeInternal)
 					.subscribeOn(PartGenerator.this.blockingOperationScheduler)
 					.subscribe(null,
 							PartGenerator.this::emitError,
@@ -788,6 +778,30 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			}
 		}
 
+		@SuppressWarnings("BlockingMethodInNonBlockingContext")
+		private Mono<Void> writeInternal(Collection<DataBuffer> dataBuffers) {
+			try {
+				// Gathering write of all buffers collected in memory so far
+				ByteBuffer[] byteBuffers = new ByteBuffer[dataBuffers.size()];
+				long remaining = 0;
+				int i = 0;
+				for (DataBuffer dataBuffer : dataBuffers) {
+					byteBuffers[i++] = dataBuffer.asByteBuffer();
+					remaining += dataBuffer.readableByteCount();
+				}
+				while (remaining > 0) {
+					remaining -= this.channel.write(byteBuffers);
+				}
+				return Mono.empty();
+			}
+			catch (IOException ex) {
+				return Mono.error(ex);
+			}
+			finally {
+				dataBuffers.forEach(DataBufferUtils::release);
+			}
+		}
+
 		@Override
 		public String toString() {
 			return "WRITE-FILE";
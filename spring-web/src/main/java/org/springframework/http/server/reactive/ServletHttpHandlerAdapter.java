@@ -108,6 +108,18 @@ public class ServletHttpHandlerAdapter implements Servlet {
 		return this.servletPath;
 	}
 
+	/**
+	 * Configure the {@link DataBufferFactory} to allocate request and response
+	 * buffers with. By default, {@link DefaultDataBufferFactory#sharedInstance}
+	 * is used, allocating a new buffer for every read chunk and encoded value.
+	 * <p>To pool buffers instead, configure a
+	 * {@link org.springframework.core.io.buffer.NettyDataBufferFactory
+	 * NettyDataBufferFactory} backed by Netty's {@code PooledByteBufAllocator},
+	 * which provides size-classed arenas with per-thread caches, reference
+	 * counting, leak detection and allocation metrics. Buffers are released
+	 * by the adapter once written, and by codecs once decoded.
+	 * @param dataBufferFactory the buffer factory to use
+	 */
 	public void setDataBufferFactory(DataBufferFactory dataBufferFactory) {
 		Assert.notNull(dataBufferFactory, "DataBufferFactory must not be null");
 		this.dataBufferFactory = dataBufferFactory;
@@ -54,6 +54,18 @@ public class UndertowHttpHandlerAdapter implements io.undertow.server.HttpHandle
 	}
 
 
+	/**
+	 * Configure the {@link DataBufferFactory} to allocate request and response
+	 * buffers with. By default, {@link DefaultDataBufferFactory#sharedInstance}
+	 * is used, allocating a new buffer for every read chunk and encoded value.
+	 * <p>To pool buffers instead, configure a
+	 * {@link org.springframework.core.io.buffer.NettyDataBufferFactory
+	 * NettyDataBufferFactory} backed by Netty's {@code PooledByteBufAllocator},
+	 * which provides size-classed arenas with per-thread caches, reference
+	 * counting, leak detection and allocation metrics. Buffers are released
+	 * by the adapter once written, and by codecs once decoded.
+	 * @param bufferFactory the buffer factory to use
+	 */
 	public void setDataBufferFactory(DataBufferFactory bufferFactory) {
 		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
 		this.bufferFactory = bufferFactory;
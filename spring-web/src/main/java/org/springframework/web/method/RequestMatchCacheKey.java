@@ -0,0 +1,97 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.method;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Key for caching the result of a handler method lookup, based on the request
+ * details that mappings without params, headers, or custom conditions are
+ * matched against: the lookup path, the HTTP method, the "Content-Type" and
+ * "Accept" headers, and whether the request has a body.
+ *
+ * @since 5.3
+ */
+public final class RequestMatchCacheKey {
+
+	private final String lookupPath;
+
+	private final String method;
+
+	@Nullable
+	private final String contentType;
+
+	@Nullable
+	private final List<String> accept;
+
+	private final boolean hasBody;
+
+
+	/**
+	 * Create a key from the given request details.
+	 * @param lookupPath the path used for the lookup
+	 * @param method the HTTP method
+	 * @param contentType the "Content-Type" header value, if any
+	 * @param accept the "Accept" header values, if any
+	 * @param contentLength the "Content-Length" header value, if any
+	 * @param transferEncoding the "Transfer-Encoding" header value, if any
+	 */
+	public RequestMatchCacheKey(String lookupPath, String method, @Nullable String contentType,
+			@Nullable List<String> accept, @Nullable String contentLength, @Nullable String transferEncoding) {
+
+		this.lookupPath = lookupPath;
+		this.method = method;
+		this.contentType = contentType;
+		this.accept = accept;
+		this.hasBody = (StringUtils.hasText(transferEncoding) ||
+				(StringUtils.hasText(contentLength) && !contentLength.trim().equals("0")));
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof RequestMatchCacheKey)) {
+			return false;
+		}
+		RequestMatchCacheKey otherKey = (RequestMatchCacheKey) other;
+		return (this.lookupPath.equals(otherKey.lookupPath) && this.method.equals(otherKey.method) &&
+				ObjectUtils.nullSafeEquals(this.contentType, otherKey.contentType) &&
+				ObjectUtils.nullSafeEquals(this.accept, otherKey.accept) && this.hasBody == otherKey.hasBody);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = this.lookupPath.hashCode();
+		result = 31 * result + this.method.hashCode();
+		result = 31 * result + ObjectUtils.nullSafeHashCode(this.contentType);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(this.accept);
+		return 31 * result + (this.hasBody ? 1 : 0);
+	}
+
+	@Override
+	public String toString() {
+		return this.method + " " + this.lookupPath;
+	}
+
+}
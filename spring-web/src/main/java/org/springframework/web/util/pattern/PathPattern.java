@@ -192,6 +192,31 @@ public class PathPattern implements Comparable<PathPattern> {
 		return (this.score > 0 || this.catchAll || this.patternString.indexOf('?') != -1);
 	}
 
+	/**
+	 * Return the first segment of this pattern if it is a literal that paths
+	 * must start with, i.e. without captured variables, wildcards, encoded
+	 * characters, or path parameters. This allows indexing patterns by the
+	 * first segment of the paths they may match.
+	 * @return the literal first segment, or {@code null} if none
+	 * @since 5.3
+	 */
+	@Nullable
+	public String getLiteralFirstSegment() {
+		char separator = this.pathOptions.separator();
+		if (this.patternString.isEmpty() || this.patternString.charAt(0) != separator) {
+			return null;
+		}
+		int end = this.patternString.indexOf(separator, 1);
+		String segment = (end != -1 ? this.patternString.substring(1, end) : this.patternString.substring(1));
+		for (int i = 0; i < segment.length(); i++) {
+			char c = segment.charAt(i);
+			if (c == '{' || c == '*' || c == '?' || c == ';' || c == '%') {
+				return null;
+			}
+		}
+		return (!segment.isEmpty() ? segment : null);
+	}
+
 	/**
 	 * Whether this pattern matches the given path.
 	 * @param pathContainer the candidate path to attempt to match against
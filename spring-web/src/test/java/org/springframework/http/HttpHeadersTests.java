@@ -704,6 +704,21 @@ public class HttpHeadersTests {
 		assertThat(readOnlyHttpHeaders.entrySet()).extracting(Entry::getKey).containsExactly(expectedKeys);
 	}
 
+	@Test
+	void readOnlyHttpHeadersTypedValues() {
+		headers.setContentLength(42);
+		headers.setIfModifiedSince(1229595600000L);
+		headers.setIfNoneMatch(Arrays.asList("\"v2.6\"", "\"v2.7\""));
+
+		HttpHeaders readOnlyHttpHeaders = HttpHeaders.readOnlyHttpHeaders(headers);
+		assertThat(readOnlyHttpHeaders.getContentLength()).isEqualTo(42);
+		assertThat(readOnlyHttpHeaders.getContentLength()).isEqualTo(42);
+		assertThat(readOnlyHttpHeaders.getIfModifiedSince()).isEqualTo(1229595600000L);
+		assertThat(readOnlyHttpHeaders.getIfUnmodifiedSince()).isEqualTo(-1);
+		assertThat(readOnlyHttpHeaders.getIfNoneMatch()).containsExactly("\"v2.6\"", "\"v2.7\"");
+		assertThat(readOnlyHttpHeaders.getIfNoneMatch()).isSameAs(readOnlyHttpHeaders.getIfNoneMatch());
+	}
+
 	@Test // gh-25034
 	void equalsUnwrapsHttpHeaders() {
 		HttpHeaders headers1 = new HttpHeaders();
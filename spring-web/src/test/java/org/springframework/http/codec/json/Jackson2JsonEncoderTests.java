@@ -145,6 +145,107 @@ public class Jackson2JsonEncoderTests extends AbstractEncoderTests<Jackson2JsonE
 				.verifyComplete());
 	}
 
+	@Test
+	public void encodeNonStreamIncrementally() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setIncrementalArrayEncoding(true);
+		encoder.setIncrementalArrayBufferSize(1);
+
+		Flux<Pojo> input = Flux.just(
+				new Pojo("foo", "bar"),
+				new Pojo("foofoo", "barbar")
+		);
+
+		Flux<DataBuffer> result = encoder.encode(input, this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null);
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectString("[{\"foo\":\"foo\",\"bar\":\"bar\"}")
+						.andThen(DataBufferUtils::release))
+				.consumeNextWith(expectString(",{\"foo\":\"foofoo\",\"bar\":\"barbar\"}")
+						.andThen(DataBufferUtils::release))
+				.consumeNextWith(expectString("]")
+						.andThen(DataBufferUtils::release))
+				.verifyComplete();
+
+		StepVerifier.create(encoder.encode(Flux.empty(), this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null))
+				.consumeNextWith(expectString("[]")
+						.andThen(DataBufferUtils::release))
+				.verifyComplete();
+	}
+
+	@Test
+	public void encodeNonStreamIncrementallyWithBufferSize() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setIncrementalArrayEncoding(true);
+		encoder.setIncrementalArrayBufferSize(30);
+
+		Flux<Pojo> input = Flux.just(
+				new Pojo("foo", "bar"),
+				new Pojo("foofoo", "barbar"),
+				new Pojo("foofoofoo", "barbarbar")
+		);
+
+		Flux<DataBuffer> result = encoder.encode(input, this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null);
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectString("[{\"foo\":\"foo\",\"bar\":\"bar\"}," +
+						"{\"foo\":\"foofoo\",\"bar\":\"barbar\"}")
+						.andThen(DataBufferUtils::release))
+				.consumeNextWith(expectString(",{\"foo\":\"foofoofoo\",\"bar\":\"barbarbar\"}")
+						.andThen(DataBufferUtils::release))
+				.consumeNextWith(expectString("]")
+						.andThen(DataBufferUtils::release))
+				.verifyComplete();
+
+		// Below the default buffer size, the array is emitted at once
+		encoder = new Jackson2JsonEncoder();
+		encoder.setIncrementalArrayEncoding(true);
+		result = encoder.encode(input, this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null);
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectString("[" +
+						"{\"foo\":\"foo\",\"bar\":\"bar\"}," +
+						"{\"foo\":\"foofoo\",\"bar\":\"barbar\"}," +
+						"{\"foo\":\"foofoofoo\",\"bar\":\"barbarbar\"}]")
+						.andThen(DataBufferUtils::release))
+				.verifyComplete();
+	}
+
+	@Test
+	public void encodeNonStreamIncrementallyAndCancel() {
+		Jackson2JsonEncoder encoder = new Jackson2JsonEncoder();
+		encoder.setIncrementalArrayEncoding(true);
+		encoder.setIncrementalArrayBufferSize(1);
+
+		Flux<Pojo> input = Flux.just(new Pojo("foo", "bar"), new Pojo("foofoo", "barbar"))
+				.concatWith(Flux.never());
+
+		Flux<DataBuffer> result = encoder.encode(input, this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null);
+
+		StepVerifier.create(result)
+				.consumeNextWith(expectString("[{\"foo\":\"foo\",\"bar\":\"bar\"}")
+						.andThen(DataBufferUtils::release))
+				.consumeNextWith(expectString(",{\"foo\":\"foofoo\",\"bar\":\"barbar\"}")
+						.andThen(DataBufferUtils::release))
+				.thenCancel()
+				.verify();
+
+		// Elements buffered below the buffer size are released on cancel
+		encoder.setIncrementalArrayBufferSize(1024);
+		result = encoder.encode(input, this.bufferFactory,
+				ResolvableType.forClass(Pojo.class), APPLICATION_JSON, null);
+
+		StepVerifier.create(result)
+				.expectSubscription()
+				.thenCancel()
+				.verify();
+	}
+
 	@Test
 	public void encodeWithType() {
 		Flux<ParentClass> input = Flux.just(new Foo(), new Bar());
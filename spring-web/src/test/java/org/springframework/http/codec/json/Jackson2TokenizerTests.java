@@ -39,6 +39,7 @@ import reactor.test.StepVerifier;
 import org.springframework.core.codec.DecodingException;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.core.testfixture.io.buffer.AbstractLeakCheckingTests;
 
 import static java.util.Arrays.asList;
@@ -234,6 +235,33 @@ public class Jackson2TokenizerTests extends AbstractLeakCheckingTests {
 				true);
 	}
 
+	@Test
+	void tokenizeHeapBuffersWithOffset() {
+		DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+		Flux<DataBuffer> source = Flux.just("xx[{\"id\":1}, {\"id\"", "xx:2}]")
+				.map(value -> {
+					byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+					return factory.wrap(bytes).slice(2, bytes.length - 2);
+				});
+
+		Flux<String> result = Jackson2Tokenizer.tokenize(
+				source, this.jsonFactory, this.objectMapper, true, false, -1)
+				.map(tokenBuffer -> {
+					try {
+						TreeNode root = this.objectMapper.readTree(tokenBuffer.asParser());
+						return this.objectMapper.writeValueAsString(root);
+					}
+					catch (IOException ex) {
+						throw new UncheckedIOException(ex);
+					}
+				});
+
+		StepVerifier.create(result)
+				.expectNext("{\"id\":1}")
+				.expectNext("{\"id\":2}")
+				.verifyComplete();
+	}
+
 	private void testTokenize(List<String> input, List<String> output, boolean tokenize) {
 		StepVerifier.FirstStep<String> builder = StepVerifier.create(decode(input, tokenize, -1));
 		output.forEach(expected -> builder.assertNext(actual -> {
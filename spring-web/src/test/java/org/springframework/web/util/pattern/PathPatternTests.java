@@ -62,6 +62,21 @@ public class PathPatternTests {
 		assertThat(parser.parse("/foo/bar").hasPatternSyntax()).isFalse();
 	}
 
+	@Test
+	public void literalFirstSegment() {
+		PathPatternParser parser = new PathPatternParser();
+		assertThat(parser.parse("/foo/{id}").getLiteralFirstSegment()).isEqualTo("foo");
+		assertThat(parser.parse("/foo").getLiteralFirstSegment()).isEqualTo("foo");
+		assertThat(parser.parse("/foo/**").getLiteralFirstSegment()).isEqualTo("foo");
+		assertThat(parser.parse("/{name}/bar").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("/fo*/bar").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("/f?o").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("/f%20o").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("/**").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("/").getLiteralFirstSegment()).isNull();
+		assertThat(parser.parse("").getLiteralFirstSegment()).isNull();
+	}
+
 	@Test
 	public void matching_LiteralPathElement() {
 		checkMatches("foo", "foo");
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.reactive;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.reactive.config.EnableWebFlux;
+import org.springframework.web.testfixture.http.server.reactive.MockServerHttpRequest;
+import org.springframework.web.testfixture.server.MockServerWebExchange;
+
+/**
+ * Benchmarks for dispatching requests end to end through the
+ * {@link DispatcherHandler}: handler mapping, argument resolution,
+ * invocation, return value handling and encoding, for typical
+ * annotated controller shapes.
+ * <p>Run with the GC profiler ({@code -prof gc}) to report the
+ * allocation rate per request along with the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DispatcherHandlerBenchmark {
+
+	@Benchmark
+	public String plainText(BenchmarkData data) {
+		return dispatch(data, MockServerWebExchange.from(MockServerHttpRequest.get("/hello")));
+	}
+
+	@Benchmark
+	public String jsonWithPathVariable(BenchmarkData data) {
+		return dispatch(data, MockServerWebExchange.from(
+				MockServerHttpRequest.get("/persons/42").accept(MediaType.APPLICATION_JSON)));
+	}
+
+	@Benchmark
+	public String jsonListWithRequestParam(BenchmarkData data) {
+		return dispatch(data, MockServerWebExchange.from(
+				MockServerHttpRequest.get("/persons?name=Robert").accept(MediaType.APPLICATION_JSON)));
+	}
+
+	@Benchmark
+	public String jsonRequestBody(BenchmarkData data) {
+		return dispatch(data, MockServerWebExchange.from(MockServerHttpRequest.post("/persons")
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.APPLICATION_JSON)
+				.body("{\"id\":42,\"name\":\"Robert\"}")));
+	}
+
+	private String dispatch(BenchmarkData data, MockServerWebExchange exchange) {
+		data.dispatcherHandler.handle(exchange).block();
+		return exchange.getResponse().getBodyAsString().block();
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public AnnotationConfigApplicationContext context;
+
+		public DispatcherHandler dispatcherHandler;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			this.context = new AnnotationConfigApplicationContext(WebConfig.class);
+			this.dispatcherHandler = new DispatcherHandler(this.context);
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.context.close();
+		}
+	}
+
+
+	@Configuration
+	@EnableWebFlux
+	static class WebConfig {
+
+		@Bean
+		public PersonController personController() {
+			return new PersonController();
+		}
+	}
+
+
+	@RestController
+	static class PersonController {
+
+		@GetMapping("/hello")
+		public String hello() {
+			return "Hello World";
+		}
+
+		@GetMapping("/persons/{id}")
+		public Person getPerson(@PathVariable("id") long id) {
+			return new Person(id, "Robert");
+		}
+
+		@GetMapping("/persons")
+		public List<Person> getPersons(@RequestParam("name") String name) {
+			return Arrays.asList(new Person(1, name), new Person(2, name), new Person(3, name));
+		}
+
+		@PostMapping("/persons")
+		public Person createPerson(@RequestBody Person person) {
+			return person;
+		}
+	}
+
+
+	public static class Person {
+
+		private long id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
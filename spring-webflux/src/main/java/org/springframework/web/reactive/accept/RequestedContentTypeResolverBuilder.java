@@ -84,13 +84,18 @@ public class RequestedContentTypeResolverBuilder {
 
 	/**
 	 * Build a {@link RequestedContentTypeResolver} that delegates to the list
-	 * of resolvers configured through this builder.
+	 * of resolvers configured through this builder, or the resolver itself if
+	 * there is only one, e.g. the {@link HeaderContentTypeResolver} by default.
 	 */
 	public RequestedContentTypeResolver build() {
 		List<RequestedContentTypeResolver> resolvers = (!this.candidates.isEmpty() ?
 				this.candidates.stream().map(Supplier::get).collect(Collectors.toList()) :
 				Collections.singletonList(new HeaderContentTypeResolver()));
 
+		if (resolvers.size() == 1) {
+			return resolvers.get(0);
+		}
+
 		return exchange -> {
 			for (RequestedContentTypeResolver resolver : resolvers) {
 				List<MediaType> mediaTypes = resolver.resolveMediaTypes(exchange);
@@ -108,6 +108,27 @@ public final class PatternsRequestCondition extends AbstractRequestCondition<Pat
 		return result;
 	}
 
+	/**
+	 * Return the literal first path segments of the patterns, or an empty set
+	 * if any of the patterns does not start with a literal path segment.
+	 * @see PathPattern#getLiteralFirstSegment()
+	 * @since 5.3
+	 */
+	public Set<String> getPathPrefixes() {
+		if (isEmptyPathMapping()) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new HashSet<>(this.patterns.size());
+		for (PathPattern pattern : this.patterns) {
+			String prefix = pattern.getLiteralFirstSegment();
+			if (prefix == null) {
+				return Collections.emptySet();
+			}
+			result.add(prefix);
+		}
+		return result;
+	}
+
 	/**
 	 * Returns a new instance with URL patterns from the current instance ("this") and
 	 * the "other" instance as follows:
@@ -23,11 +23,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -40,6 +41,7 @@ import org.springframework.http.server.RequestPath;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.cors.CorsConfiguration;
@@ -95,24 +97,45 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	}
 
 
+	private int matchCacheLimit = 0;
+
 	private final MappingRegistry mappingRegistry = new MappingRegistry();
 
 
+	/**
+	 * Set the maximum number of request lookups for which to cache the
+	 * best-matching mapping, skipping the evaluation of mapping conditions for
+	 * repeated requests. Only lookups for which all checked mappings are
+	 * {@link #isMatchCacheable cacheable} are cached, under the key returned
+	 * from {@link #getMatchCacheKey}. The cache is reset whenever mappings
+	 * are registered or unregistered.
+	 * <p>By default this is set to 0, i.e. matches are not cached.
+	 * @since 5.3
+	 */
+	public void setMatchCacheLimit(int matchCacheLimit) {
+		Assert.isTrue(matchCacheLimit >= 0, "Match cache limit must not be negative");
+		this.matchCacheLimit = matchCacheLimit;
+	}
+
+	/**
+	 * Return the maximum number of request lookups for which to cache the
+	 * best-matching mapping.
+	 * @since 5.3
+	 */
+	public int getMatchCacheLimit() {
+		return this.matchCacheLimit;
+	}
+
+
 	// TODO: handlerMethodMappingNamingStrategy
 
 	/**
 	 * Return a (read-only) map with all mappings and HandlerMethod's.
 	 */
 	public Map<T, HandlerMethod> getHandlerMethods() {
-		this.mappingRegistry.acquireReadLock();
-		try {
-			return Collections.unmodifiableMap(
-					this.mappingRegistry.getRegistrations().entrySet().stream()
-							.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().handlerMethod)));
-		}
-		finally {
-			this.mappingRegistry.releaseReadLock();
-		}
+		return Collections.unmodifiableMap(
+				this.mappingRegistry.getRegistrations().entrySet().stream()
+						.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().handlerMethod)));
 	}
 
 	/**
@@ -284,23 +307,17 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	@Override
 	public Mono<HandlerMethod> getHandlerInternal(ServerWebExchange exchange) {
-		this.mappingRegistry.acquireReadLock();
+		HandlerMethod handlerMethod;
 		try {
-			HandlerMethod handlerMethod;
-			try {
-				handlerMethod = lookupHandlerMethod(exchange);
-			}
-			catch (Exception ex) {
-				return Mono.error(ex);
-			}
-			if (handlerMethod != null) {
-				handlerMethod = handlerMethod.createWithResolvedBean();
-			}
-			return Mono.justOrEmpty(handlerMethod);
+			handlerMethod = lookupHandlerMethod(exchange);
+		}
+		catch (Exception ex) {
+			return Mono.error(ex);
 		}
-		finally {
-			this.mappingRegistry.releaseReadLock();
+		if (handlerMethod != null) {
+			handlerMethod = handlerMethod.createWithResolvedBean();
 		}
+		return Mono.justOrEmpty(handlerMethod);
 	}
 
 	/**
@@ -313,13 +330,24 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	@Nullable
 	protected HandlerMethod lookupHandlerMethod(ServerWebExchange exchange) throws Exception {
+		MappingSnapshot snapshot = this.mappingRegistry.getSnapshot();
+		Object cacheKey = (snapshot.matchCache != null ? getMatchCacheKey(exchange) : null);
+		Match cachedMatch = (cacheKey != null ? snapshot.matchCache.getIfPresent(cacheKey) : null);
+		if (cachedMatch != null) {
+			handleMatch(cachedMatch.mapping, cachedMatch.handlerMethod, exchange);
+			return cachedMatch.handlerMethod;
+		}
+
+		String lookupPath = exchange.getRequest().getPath().pathWithinApplication().value();
 		List<Match> matches = new ArrayList<>();
-		List<T> directPathMatches = this.mappingRegistry.getMappingsByDirectPath(exchange);
+		List<T> directPathMatches = snapshot.getMappingsByDirectPath(lookupPath);
 		if (directPathMatches != null) {
-			addMatchingMappings(directPathMatches, matches, exchange);
+			addMatchingMappings(directPathMatches, matches, snapshot, exchange);
 		}
+		Collection<T> patternMatches = null;
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			patternMatches = snapshot.getMappingsByPathPrefix(lookupPath);
+			addMatchingMappings(patternMatches, matches, snapshot, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -341,24 +369,39 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 							"Ambiguous handler methods mapped for '" + path + "': {" + m1 + ", " + m2 + "}");
 				}
 			}
+			if (cacheKey != null && isMatchCacheable(directPathMatches) && isMatchCacheable(patternMatches)) {
+				snapshot.matchCache.putIfAbsent(cacheKey, bestMatch);
+			}
 			handleMatch(bestMatch.mapping, bestMatch.handlerMethod, exchange);
 			return bestMatch.handlerMethod;
 		}
 		else {
-			return handleNoMatch(this.mappingRegistry.getRegistrations().keySet(), exchange);
+			return handleNoMatch(snapshot.getRegistrations().keySet(), exchange);
 		}
 	}
 
-	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, ServerWebExchange exchange) {
+	private void addMatchingMappings(Collection<T> mappings, List<Match> matches,
+			MappingSnapshot snapshot, ServerWebExchange exchange) {
+
 		for (T mapping : mappings) {
 			T match = getMatchingMapping(mapping, exchange);
 			if (match != null) {
-				matches.add(new Match(match,
-						this.mappingRegistry.getRegistrations().get(mapping).getHandlerMethod()));
+				matches.add(new Match(match, snapshot.getRegistrations().get(mapping).getHandlerMethod()));
 			}
 		}
 	}
 
+	private boolean isMatchCacheable(@Nullable Collection<T> mappings) {
+		if (mappings != null) {
+			for (T mapping : mappings) {
+				if (!isMatchCacheable(mapping)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Invoked when a matching mapping is found.
 	 * @param mapping the matching mapping
@@ -431,6 +474,44 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the literal first path segments of the request mapping paths,
+	 * used to narrow down the mappings to check when there is no direct path
+	 * match. Segments are compared case-insensitively.
+	 * <p>Return an empty set if any of the mapping paths does not start with
+	 * a literal segment, in which case the mapping is checked for every request.
+	 * This is also the default implementation.
+	 * @since 5.3
+	 */
+	protected Set<String> getPathPrefixes(T mapping) {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Return a key for caching the best-matching mapping for the given request,
+	 * capturing all request details that mappings are matched against, or
+	 * {@code null} if the lookup for the request should not be cached.
+	 * <p>The default implementation returns {@code null}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	@Nullable
+	protected Object getMatchCacheKey(ServerWebExchange exchange) {
+		return null;
+	}
+
+	/**
+	 * Whether the outcome of matching the given mapping is fully determined
+	 * by the request details captured in the {@link #getMatchCacheKey key}
+	 * for caching lookups.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	protected boolean isMatchCacheable(T mapping) {
+		return false;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -462,54 +543,84 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final MultiValueMap<String, T> prefixLookup = new LinkedMultiValueMap<>();
+
+		private final List<T> unprefixedMappings = new ArrayList<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
-		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+		private final ReentrantLock writeLock = new ReentrantLock();
+
+		@Nullable
+		private volatile MappingSnapshot snapshot;
 
 		/**
-		 * Return all registrations.
+		 * Return all registrations. Thread-safe for concurrent use.
 		 * @since 5.3
+		 * @see #getSnapshot()
 		 */
 		public Map<T, MappingRegistration<T>> getRegistrations() {
-			return this.registry;
+			return getSnapshot().getRegistrations();
 		}
 
 		/**
-		 * Return matches for the given URL path. Not thread-safe.
+		 * Return an immutable snapshot of the current mappings, providing a
+		 * consistent view for all lookups performed for a given request.
+		 * Thread-safe for concurrent use, and only synchronizing if mappings
+		 * have changed since the last snapshot was taken.
 		 * @since 5.3
-		 * @see #acquireReadLock()
 		 */
-		@Nullable
-		public List<T> getMappingsByDirectPath(ServerWebExchange exchange) {
-			String path = exchange.getRequest().getPath().pathWithinApplication().value();
-			return this.pathLookup.get(path);
+		public MappingSnapshot getSnapshot() {
+			MappingSnapshot snapshot = this.snapshot;
+			if (snapshot == null) {
+				this.writeLock.lock();
+				try {
+					snapshot = this.snapshot;
+					if (snapshot == null) {
+						snapshot = new MappingSnapshot(this.registry, this.pathLookup,
+								this.prefixLookup, this.unprefixedMappings, getMatchCacheLimit());
+						this.snapshot = snapshot;
+					}
+				}
+				finally {
+					this.writeLock.unlock();
+				}
+			}
+			return snapshot;
 		}
 
 		/**
-		 * Return CORS configuration. Thread-safe for concurrent use.
+		 * Return matches for the given URL path. Thread-safe for concurrent use.
+		 * @since 5.3
+		 * @see #getSnapshot()
 		 */
 		@Nullable
-		public CorsConfiguration getCorsConfiguration(HandlerMethod handlerMethod) {
-			HandlerMethod original = handlerMethod.getResolvedFromHandlerMethod();
-			return this.corsLookup.get(original != null ? original : handlerMethod);
+		public List<T> getMappingsByDirectPath(ServerWebExchange exchange) {
+			String path = exchange.getRequest().getPath().pathWithinApplication().value();
+			return getSnapshot().getMappingsByDirectPath(path);
 		}
 
 		/**
-		 * Acquire the read lock when using getMappings and getMappingsByUrl.
+		 * Return the mappings to check for the given URL path when there is no
+		 * direct path match. Thread-safe for concurrent use.
+		 * @since 5.3
+		 * @see #getSnapshot()
 		 */
-		public void acquireReadLock() {
-			this.readWriteLock.readLock().lock();
+		public Collection<T> getMappingsByPathPrefix(String urlPath) {
+			return getSnapshot().getMappingsByPathPrefix(urlPath);
 		}
 
 		/**
-		 * Release the read lock after using getMappings and getMappingsByUrl.
+		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
-		public void releaseReadLock() {
-			this.readWriteLock.readLock().unlock();
+		@Nullable
+		public CorsConfiguration getCorsConfiguration(HandlerMethod handlerMethod) {
+			HandlerMethod original = handlerMethod.getResolvedFromHandlerMethod();
+			return this.corsLookup.get(original != null ? original : handlerMethod);
 		}
 
 		public void register(T mapping, Object handler, Method method) {
-			this.readWriteLock.writeLock().lock();
+			this.writeLock.lock();
 			try {
 				HandlerMethod handlerMethod = createHandlerMethod(handler, method);
 				validateMethodMapping(handlerMethod, mapping);
@@ -519,16 +630,28 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				Set<String> pathPrefixes = new LinkedHashSet<>();
+				for (String prefix : AbstractHandlerMethodMapping.this.getPathPrefixes(mapping)) {
+					pathPrefixes.add(toLowerCase(prefix));
+				}
+				if (pathPrefixes.isEmpty()) {
+					this.unprefixedMappings.add(mapping);
+				}
+				for (String prefix : pathPrefixes) {
+					this.prefixLookup.add(prefix, mapping);
+				}
+
 				CorsConfiguration config = initCorsConfiguration(handler, method, mapping);
 				if (config != null) {
 					config.validateAllowCredentials();
 					this.corsLookup.put(handlerMethod, config);
 				}
 
-				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directPaths));
+				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directPaths, pathPrefixes));
 			}
 			finally {
-				this.readWriteLock.writeLock().unlock();
+				this.snapshot = null;
+				this.writeLock.unlock();
 			}
 		}
 
@@ -544,7 +667,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 
 		public void unregister(T mapping) {
-			this.readWriteLock.writeLock().lock();
+			this.writeLock.lock();
 			try {
 				MappingRegistration<T> registration = this.registry.remove(mapping);
 				if (registration == null) {
@@ -561,15 +684,129 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (registration.getPathPrefixes().isEmpty()) {
+					this.unprefixedMappings.remove(registration.getMapping());
+				}
+				for (String prefix : registration.getPathPrefixes()) {
+					List<T> mappings = this.prefixLookup.get(prefix);
+					if (mappings != null) {
+						mappings.remove(registration.getMapping());
+						if (mappings.isEmpty()) {
+							this.prefixLookup.remove(prefix);
+						}
+					}
+				}
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
-				this.readWriteLock.writeLock().unlock();
+				this.snapshot = null;
+				this.writeLock.unlock();
+			}
+		}
+	}
+
+
+	/**
+	 * Immutable view of the mappings in the {@link MappingRegistry} at a given
+	 * point in time, allowing for lookups without locking.
+	 * <p>Package-private for testing purposes.
+	 * @since 5.3
+	 */
+	class MappingSnapshot {
+
+		private final Map<T, MappingRegistration<T>> registrations;
+
+		private final Map<String, List<T>> pathLookup;
+
+		private final Map<String, List<T>> prefixLookup;
+
+		private final List<T> unprefixedMappings;
+
+		@Nullable
+		private final ConcurrentLruCache<Object, Match> matchCache;
+
+		MappingSnapshot(Map<T, MappingRegistration<T>> registrations, Map<String, List<T>> pathLookup,
+				Map<String, List<T>> prefixLookup, List<T> unprefixedMappings, int matchCacheLimit) {
+
+			this.registrations = Collections.unmodifiableMap(new HashMap<>(registrations));
+			this.pathLookup = copyLookup(pathLookup);
+			this.prefixLookup = copyLookup(prefixLookup);
+			this.unprefixedMappings = Collections.unmodifiableList(new ArrayList<>(unprefixedMappings));
+			this.matchCache = (matchCacheLimit > 0 ? new ConcurrentLruCache<>(matchCacheLimit) : null);
+		}
+
+		private Map<String, List<T>> copyLookup(Map<String, List<T>> lookup) {
+			Map<String, List<T>> copy = new HashMap<>(lookup.size());
+			lookup.forEach((key, mappings) -> copy.put(key, Collections.unmodifiableList(new ArrayList<>(mappings))));
+			return copy;
+		}
+
+		/**
+		 * Return all registrations.
+		 */
+		public Map<T, MappingRegistration<T>> getRegistrations() {
+			return this.registrations;
+		}
+
+		/**
+		 * Return matches for the given URL path.
+		 */
+		@Nullable
+		public List<T> getMappingsByDirectPath(String urlPath) {
+			return this.pathLookup.get(urlPath);
+		}
+
+		/**
+		 * Return the mappings to check for the given URL path when there is no
+		 * direct path match: the mappings registered under the first segment of
+		 * the path along with the mappings without a literal path prefix. Falls
+		 * back on all mappings if the path prefix cannot be determined reliably.
+		 * @see AbstractHandlerMethodMapping#getPathPrefixes
+		 */
+		public Collection<T> getMappingsByPathPrefix(String urlPath) {
+			String prefix = (!this.prefixLookup.isEmpty() ? getRequestPathPrefix(urlPath) : null);
+			if (prefix == null) {
+				return this.registrations.keySet();
 			}
+			List<T> mappings = this.prefixLookup.get(prefix);
+			if (mappings == null) {
+				return this.unprefixedMappings;
+			}
+			if (this.unprefixedMappings.isEmpty()) {
+				return mappings;
+			}
+			List<T> result = new ArrayList<>(mappings.size() + this.unprefixedMappings.size());
+			result.addAll(mappings);
+			result.addAll(this.unprefixedMappings);
+			return result;
 		}
 	}
 
 
+	@Nullable
+	private static String getRequestPathPrefix(String urlPath) {
+		if (urlPath.isEmpty() || urlPath.charAt(0) != '/') {
+			return null;
+		}
+		int end = urlPath.indexOf('/', 1);
+		String segment = (end != -1 ? urlPath.substring(1, end) : urlPath.substring(1));
+		// Encoded characters and path parameters are only resolved by the matching itself
+		if (segment.indexOf('%') != -1 || segment.indexOf(';') != -1) {
+			return null;
+		}
+		return toLowerCase(segment);
+	}
+
+	private static String toLowerCase(String segment) {
+		char[] chars = segment.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+
 	static class MappingRegistration<T> {
 
 		private final T mapping;
@@ -578,12 +815,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Set<String> directPaths;
 
+		private final Set<String> pathPrefixes;
+
 		public MappingRegistration(T mapping, HandlerMethod handlerMethod, @Nullable Set<String> directPaths) {
+			this(mapping, handlerMethod, directPaths, null);
+		}
+
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod,
+				@Nullable Set<String> directPaths, @Nullable Set<String> pathPrefixes) {
+
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
 			this.directPaths = (directPaths != null ? directPaths : Collections.emptySet());
+			this.pathPrefixes = (pathPrefixes != null ? pathPrefixes : Collections.emptySet());
 		}
 
 		public T getMapping() {
@@ -597,6 +843,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		public Set<String> getDirectPaths() {
 			return this.directPaths;
 		}
+
+		public Set<String> getPathPrefixes() {
+			return this.pathPrefixes;
+		}
 	}
 
 
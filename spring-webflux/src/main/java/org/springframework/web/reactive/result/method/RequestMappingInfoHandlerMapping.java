@@ -35,9 +35,12 @@ import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.cors.reactive.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.RequestMatchCacheKey;
 import org.springframework.web.reactive.HandlerMapping;
 import org.springframework.web.reactive.result.condition.NameValueExpression;
 import org.springframework.web.reactive.result.condition.ProducesRequestCondition;
@@ -76,6 +79,48 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getDirectPaths();
 	}
 
+	@Override
+	protected Set<String> getPathPrefixes(RequestMappingInfo info) {
+		return info.getPatternsCondition().getPathPrefixes();
+	}
+
+	@Override
+	@Nullable
+	protected Object getMatchCacheKey(ServerWebExchange exchange) {
+		ServerHttpRequest request = exchange.getRequest();
+		if (CorsUtils.isPreFlightRequest(request)) {
+			return null;
+		}
+		HttpHeaders headers = request.getHeaders();
+		return new RequestMatchCacheKey(request.getPath().pathWithinApplication().value(), request.getMethodValue(),
+				headers.getFirst(HttpHeaders.CONTENT_TYPE), headers.get(HttpHeaders.ACCEPT),
+				headers.getFirst(HttpHeaders.CONTENT_LENGTH), headers.getFirst(HttpHeaders.TRANSFER_ENCODING));
+	}
+
+	/**
+	 * Whether the given {@code RequestMappingInfo} has no params, headers, or
+	 * custom conditions, and no produces condition either, unless requested
+	 * media types are {@link #isAcceptHeaderContentNegotiation() resolved}
+	 * from the "Accept" header only.
+	 */
+	@Override
+	protected boolean isMatchCacheable(RequestMappingInfo info) {
+		return (info.getParamsCondition().isEmpty() && info.getHeadersCondition().isEmpty() &&
+				info.getCustomCondition() == null &&
+				(info.getProducesCondition().isEmpty() || isAcceptHeaderContentNegotiation()));
+	}
+
+	/**
+	 * Whether requested media types are resolved from the "Accept" header
+	 * only, allowing lookups that involve produces conditions to be cached.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	protected boolean isAcceptHeaderContentNegotiation() {
+		return false;
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
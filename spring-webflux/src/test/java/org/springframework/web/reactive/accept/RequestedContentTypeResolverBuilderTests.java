@@ -36,6 +36,8 @@ public class RequestedContentTypeResolverBuilderTests {
 	public void defaultSettings() throws Exception {
 
 		RequestedContentTypeResolver resolver = new RequestedContentTypeResolverBuilder().build();
+		assertThat(resolver).isInstanceOf(HeaderContentTypeResolver.class);
+
 		MockServerWebExchange exchange = MockServerWebExchange.from(
 				MockServerHttpRequest.get("/flower").accept(MediaType.IMAGE_GIF));
 		List<MediaType> mediaTypes = resolver.resolveMediaTypes(exchange);
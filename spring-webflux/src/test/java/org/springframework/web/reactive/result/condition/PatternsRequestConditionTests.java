@@ -154,6 +154,16 @@ public class PatternsRequestConditionTests {
 		assertThat(condition.getMatchingCondition(MockServerWebExchange.from(get("/anything")))).isNull();
 	}
 
+	@Test
+	public void pathPrefixes() {
+		assertThat(createPatternsCondition("/foo/{id}", "/bar", "/bar/**").getPathPrefixes())
+				.containsExactlyInAnyOrder("foo", "bar");
+		assertThat(createPatternsCondition("/foo/{id}", "/{name}/bar").getPathPrefixes()).isEmpty();
+		assertThat(createPatternsCondition("/fo*/bar").getPathPrefixes()).isEmpty();
+		assertThat(createPatternsCondition("/").getPathPrefixes()).isEmpty();
+		assertThat(new PatternsRequestCondition().getPathPrefixes()).isEmpty();
+	}
+
 	@Test
 	public void compareToConsistentWithEquals() {
 		PatternsRequestCondition c1 = createPatternsCondition("/foo*");
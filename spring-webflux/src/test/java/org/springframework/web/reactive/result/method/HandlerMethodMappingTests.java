@@ -95,6 +95,31 @@ public class HandlerMethodMappingTests {
 		assertThat(((HandlerMethod) result.block()).getMethod()).isEqualTo(this.method1);
 	}
 
+	@Test
+	public void pathPrefixMatch() {
+		this.mapping.registerMapping("/foo/{id}", this.handler, this.method1);
+		this.mapping.registerMapping("/bar/{id}", this.handler, this.method2);
+		this.mapping.registerMapping("/{path}/baz", this.handler, this.method2);
+
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/bar/1"))
+				.containsExactly("/bar/{id}", "/{path}/baz");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/BAR/1"))
+				.containsExactly("/bar/{id}", "/{path}/baz");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/other"))
+				.containsExactly("/{path}/baz");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/b%61r/1"))
+				.containsExactlyInAnyOrder("/foo/{id}", "/bar/{id}", "/{path}/baz");
+
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/bar/1"));
+		Mono<Object> result = this.mapping.getHandler(exchange);
+		assertThat(((HandlerMethod) result.block()).getMethod()).isEqualTo(this.method2);
+		assertThat(this.mapping.getMatches()).containsExactly("/bar/{id}");
+
+		this.mapping.unregisterMapping("/bar/{id}");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/bar/1"))
+				.containsExactly("/{path}/baz");
+	}
+
 	@Test
 	public void ambiguousMatch() {
 		this.mapping.registerMapping("/f?o", this.handler, this.method1);
@@ -171,6 +196,17 @@ public class HandlerMethodMappingTests {
 					Collections.emptySet() : Collections.singleton(mapping));
 		}
 
+		@Override
+		protected Set<String> getPathPrefixes(String mapping) {
+			if (!mapping.startsWith("/")) {
+				return Collections.emptySet();
+			}
+			int end = mapping.indexOf('/', 1);
+			String prefix = mapping.substring(1, (end != -1 ? end : mapping.length()));
+			return (parser.parse("/" + prefix).hasPatternSyntax() ?
+					Collections.emptySet() : Collections.singleton(prefix));
+		}
+
 		@Override
 		protected String getMatchingMapping(String pattern, ServerWebExchange exchange) {
 			PathContainer lookupPath = exchange.getRequest().getPath().pathWithinApplication();
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpHeaders;
@@ -39,6 +40,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -133,6 +135,40 @@ public class RequestMappingInfoHandlerMappingTests {
 		assertThat(hm.getMethod()).isEqualTo(expected);
 	}
 
+	@Test
+	public void getHandlerWithMatchCache() {
+		this.handlerMapping.setMatchCacheLimit(16);
+
+		Method expected = on(TestController.class).annot(requestMapping("/ba*").method(GET, HEAD)).resolveMethod();
+		for (int i = 0; i < 2; i++) {
+			ServerWebExchange exchange = MockServerWebExchange.from(get("/bar"));
+			HandlerMethod hm = (HandlerMethod) this.handlerMapping.getHandler(exchange).block();
+			assertThat(hm.getMethod()).isEqualTo(expected);
+			PathPattern bestMatch = (PathPattern) exchange.getAttributes().get(BEST_MATCHING_PATTERN_ATTRIBUTE);
+			assertThat(bestMatch.getPatternString()).isEqualTo("/ba*");
+		}
+		assertThat(getMatchCacheSize()).isEqualTo(1);
+
+		// Lookups involving params conditions are not cached
+		Method fooParam = on(TestController.class).annot(getMapping("/foo").params("p")).resolveMethod();
+		Method foo = on(TestController.class).annot(getMapping("/foo").params()).resolveMethod();
+		for (int i = 0; i < 2; i++) {
+			ServerWebExchange exchange = MockServerWebExchange.from(get("/foo?p=anything"));
+			HandlerMethod hm = (HandlerMethod) this.handlerMapping.getHandler(exchange).block();
+			assertThat(hm.getMethod()).isEqualTo(fooParam);
+
+			exchange = MockServerWebExchange.from(get("/foo"));
+			hm = (HandlerMethod) this.handlerMapping.getHandler(exchange).block();
+			assertThat(hm.getMethod()).isEqualTo(foo);
+		}
+
+		// Neither are lookups without a match
+		ServerWebExchange exchange = MockServerWebExchange.from(get("/none"));
+		assertThat(this.handlerMapping.getHandler(exchange).block()).isNull();
+
+		assertThat(getMatchCacheSize()).isEqualTo(1);
+	}
+
 	@Test
 	public void getHandlerRequestMethodNotAllowed() {
 		ServerWebExchange exchange = MockServerWebExchange.from(post("/bar"));
@@ -324,6 +360,11 @@ public class RequestMappingInfoHandlerMappingTests {
 				.verify();
 	}
 
+	private int getMatchCacheSize() {
+		Object matchCache = new DirectFieldAccessor(this.handlerMapping).getPropertyValue("mappingRegistry.snapshot.matchCache");
+		return ((ConcurrentLruCache<?, ?>) matchCache).size();
+	}
+
 	private void testHttpMediaTypeNotSupportedException(String url) {
 		MockServerHttpRequest request = put(url).contentType(MediaType.APPLICATION_JSON).build();
 		ServerWebExchange exchange = MockServerWebExchange.from(request);
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2002-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.web.servlet;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
+import org.springframework.web.testfixture.servlet.MockServletConfig;
+import org.springframework.web.testfixture.servlet.MockServletContext;
+
+/**
+ * Benchmarks for dispatching requests end to end through the
+ * {@link DispatcherServlet}: handler mapping, argument resolution,
+ * invocation, return value handling and message conversion, for typical
+ * annotated controller shapes.
+ * <p>Run with the GC profiler ({@code -prof gc}) to report the
+ * allocation rate per request along with the throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class DispatcherServletBenchmark {
+
+	@Benchmark
+	public String plainText(BenchmarkData data) throws Exception {
+		return dispatch(data, new MockHttpServletRequest("GET", "/hello"));
+	}
+
+	@Benchmark
+	public String jsonWithPathVariable(BenchmarkData data) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/persons/42");
+		request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+		return dispatch(data, request);
+	}
+
+	@Benchmark
+	public String jsonListWithRequestParam(BenchmarkData data) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/persons");
+		request.addParameter("name", "Robert");
+		request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+		return dispatch(data, request);
+	}
+
+	@Benchmark
+	public String jsonRequestBody(BenchmarkData data) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/persons");
+		request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+		request.setContent("{\"id\":42,\"name\":\"Robert\"}".getBytes(StandardCharsets.UTF_8));
+		return dispatch(data, request);
+	}
+
+	private String dispatch(BenchmarkData data, MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		data.dispatcherServlet.service(request, response);
+		return response.getContentAsString();
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkData {
+
+		public AnnotationConfigWebApplicationContext context;
+
+		public DispatcherServlet dispatcherServlet;
+
+		@Setup(Level.Trial)
+		public void setup() throws Exception {
+			MockServletContext servletContext = new MockServletContext();
+			this.context = new AnnotationConfigWebApplicationContext();
+			this.context.register(WebConfig.class);
+			this.context.setServletContext(servletContext);
+			this.dispatcherServlet = new DispatcherServlet(this.context);
+			this.dispatcherServlet.init(new MockServletConfig(servletContext));
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			this.dispatcherServlet.destroy();
+		}
+	}
+
+
+	@Configuration
+	@EnableWebMvc
+	static class WebConfig {
+
+		@Bean
+		public PersonController personController() {
+			return new PersonController();
+		}
+	}
+
+
+	@RestController
+	static class PersonController {
+
+		@GetMapping("/hello")
+		public String hello() {
+			return "Hello World";
+		}
+
+		@GetMapping("/persons/{id}")
+		public Person getPerson(@PathVariable("id") long id) {
+			return new Person(id, "Robert");
+		}
+
+		@GetMapping("/persons")
+		public List<Person> getPersons(@RequestParam("name") String name) {
+			return Arrays.asList(new Person(1, name), new Person(2, name), new Person(3, name));
+		}
+
+		@PostMapping("/persons")
+		public Person createPerson(@RequestBody Person person) {
+			return person;
+		}
+	}
+
+
+	public static class Person {
+
+		private long id;
+
+		private String name;
+
+		public Person() {
+		}
+
+		public Person(long id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		public long getId() {
+			return this.id;
+		}
+
+		public void setId(long id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+	}
+
+}
@@ -24,11 +24,12 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -43,6 +44,7 @@ import org.springframework.core.MethodIntrospector;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.cors.CorsConfiguration;
@@ -97,9 +99,35 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Nullable
 	private HandlerMethodMappingNamingStrategy<T> namingStrategy;
 
+	private int matchCacheLimit = 0;
+
 	private final MappingRegistry mappingRegistry = new MappingRegistry();
 
 
+	/**
+	 * Set the maximum number of request lookups for which to cache the
+	 * best-matching mapping, skipping the evaluation of mapping conditions for
+	 * repeated requests. Only lookups for which all checked mappings are
+	 * {@link #isMatchCacheable cacheable} are cached, under the key returned
+	 * from {@link #getMatchCacheKey}. The cache is reset whenever mappings
+	 * are registered or unregistered.
+	 * <p>By default this is set to 0, i.e. matches are not cached.
+	 * @since 5.3
+	 */
+	public void setMatchCacheLimit(int matchCacheLimit) {
+		Assert.isTrue(matchCacheLimit >= 0, "Match cache limit must not be negative");
+		this.matchCacheLimit = matchCacheLimit;
+	}
+
+	/**
+	 * Return the maximum number of request lookups for which to cache the
+	 * best-matching mapping.
+	 * @since 5.3
+	 */
+	public int getMatchCacheLimit() {
+		return this.matchCacheLimit;
+	}
+
 	/**
 	 * Whether to detect handler methods in beans in ancestor ApplicationContexts.
 	 * <p>Default is "false": Only beans in the current ApplicationContext are
@@ -136,15 +164,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 * Return a (read-only) map with all mappings and HandlerMethod's.
 	 */
 	public Map<T, HandlerMethod> getHandlerMethods() {
-		this.mappingRegistry.acquireReadLock();
-		try {
-			return Collections.unmodifiableMap(
-					this.mappingRegistry.getRegistrations().entrySet().stream()
-							.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().handlerMethod)));
-		}
-		finally {
-			this.mappingRegistry.releaseReadLock();
-		}
+		return Collections.unmodifiableMap(
+				this.mappingRegistry.getRegistrations().entrySet().stream()
+						.collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().handlerMethod)));
 	}
 
 	/**
@@ -360,14 +382,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	@Override
 	protected HandlerMethod getHandlerInternal(HttpServletRequest request) throws Exception {
 		String lookupPath = initLookupPath(request);
-		this.mappingRegistry.acquireReadLock();
-		try {
-			HandlerMethod handlerMethod = lookupHandlerMethod(lookupPath, request);
-			return (handlerMethod != null ? handlerMethod.createWithResolvedBean() : null);
-		}
-		finally {
-			this.mappingRegistry.releaseReadLock();
-		}
+		HandlerMethod handlerMethod = lookupHandlerMethod(lookupPath, request);
+		return (handlerMethod != null ? handlerMethod.createWithResolvedBean() : null);
 	}
 
 	/**
@@ -381,13 +397,24 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	 */
 	@Nullable
 	protected HandlerMethod lookupHandlerMethod(String lookupPath, HttpServletRequest request) throws Exception {
+		MappingSnapshot snapshot = this.mappingRegistry.getSnapshot();
+		Object cacheKey = (snapshot.matchCache != null ? getMatchCacheKey(lookupPath, request) : null);
+		Match cachedMatch = (cacheKey != null ? snapshot.matchCache.getIfPresent(cacheKey) : null);
+		if (cachedMatch != null) {
+			request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, cachedMatch.handlerMethod);
+			handleMatch(cachedMatch.mapping, lookupPath, request);
+			return cachedMatch.handlerMethod;
+		}
+
 		List<Match> matches = new ArrayList<>();
-		List<T> directPathMatches = this.mappingRegistry.getMappingsByDirectPath(lookupPath);
+		List<T> directPathMatches = snapshot.getMappingsByDirectPath(lookupPath);
 		if (directPathMatches != null) {
-			addMatchingMappings(directPathMatches, matches, request);
+			addMatchingMappings(directPathMatches, matches, snapshot, request);
 		}
+		Collection<T> patternMatches = null;
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			patternMatches = snapshot.getMappingsByPathPrefix(lookupPath);
+			addMatchingMappings(patternMatches, matches, snapshot, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -410,25 +437,40 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 							"Ambiguous handler methods mapped for '" + uri + "': {" + m1 + ", " + m2 + "}");
 				}
 			}
+			if (cacheKey != null && isMatchCacheable(directPathMatches) && isMatchCacheable(patternMatches)) {
+				snapshot.matchCache.putIfAbsent(cacheKey, bestMatch);
+			}
 			request.setAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE, bestMatch.handlerMethod);
 			handleMatch(bestMatch.mapping, lookupPath, request);
 			return bestMatch.handlerMethod;
 		}
 		else {
-			return handleNoMatch(this.mappingRegistry.getRegistrations().keySet(), lookupPath, request);
+			return handleNoMatch(snapshot.getRegistrations().keySet(), lookupPath, request);
 		}
 	}
 
-	private void addMatchingMappings(Collection<T> mappings, List<Match> matches, HttpServletRequest request) {
+	private void addMatchingMappings(Collection<T> mappings, List<Match> matches,
+			MappingSnapshot snapshot, HttpServletRequest request) {
+
 		for (T mapping : mappings) {
 			T match = getMatchingMapping(mapping, request);
 			if (match != null) {
-				matches.add(new Match(match,
-						this.mappingRegistry.getRegistrations().get(mapping).getHandlerMethod()));
+				matches.add(new Match(match, snapshot.getRegistrations().get(mapping).getHandlerMethod()));
 			}
 		}
 	}
 
+	private boolean isMatchCacheable(@Nullable Collection<T> mappings) {
+		if (mappings != null) {
+			for (T mapping : mappings) {
+				if (!isMatchCacheable(mapping)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
 	/**
 	 * Invoked when a matching mapping is found.
 	 * @param mapping the matching mapping
@@ -522,6 +564,44 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return urls;
 	}
 
+	/**
+	 * Return the literal first path segments of the request mapping paths,
+	 * used to narrow down the mappings to check when there is no direct path
+	 * match. Segments are compared case-insensitively.
+	 * <p>Return an empty set if any of the mapping paths does not start with
+	 * a literal segment, in which case the mapping is checked for every request.
+	 * This is also the default implementation.
+	 * @since 5.3
+	 */
+	protected Set<String> getPathPrefixes(T mapping) {
+		return Collections.emptySet();
+	}
+
+	/**
+	 * Return a key for caching the best-matching mapping for the given request,
+	 * capturing all request details that mappings are matched against, or
+	 * {@code null} if the lookup for the request should not be cached.
+	 * <p>The default implementation returns {@code null}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	@Nullable
+	protected Object getMatchCacheKey(String lookupPath, HttpServletRequest request) {
+		return null;
+	}
+
+	/**
+	 * Whether the outcome of matching the given mapping is fully determined
+	 * by the request details captured in the {@link #getMatchCacheKey key}
+	 * for caching lookups.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	protected boolean isMatchCacheable(T mapping) {
+		return false;
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -552,27 +632,71 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final MultiValueMap<String, T> prefixLookup = new LinkedMultiValueMap<>();
+
+		private final List<T> unprefixedMappings = new ArrayList<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
-		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+		private final ReentrantLock writeLock = new ReentrantLock();
+
+		@Nullable
+		private volatile MappingSnapshot snapshot;
 
 		/**
-		 * Return all registrations.
+		 * Return all registrations. Thread-safe for concurrent use.
 		 * @since 5.3
+		 * @see #getSnapshot()
 		 */
 		public Map<T, MappingRegistration<T>> getRegistrations() {
-			return this.registry;
+			return getSnapshot().getRegistrations();
+		}
+
+		/**
+		 * Return an immutable snapshot of the current mappings, providing a
+		 * consistent view for all lookups performed for a given request.
+		 * Thread-safe for concurrent use, and only synchronizing if mappings
+		 * have changed since the last snapshot was taken.
+		 * @since 5.3
+		 */
+		public MappingSnapshot getSnapshot() {
+			MappingSnapshot snapshot = this.snapshot;
+			if (snapshot == null) {
+				this.writeLock.lock();
+				try {
+					snapshot = this.snapshot;
+					if (snapshot == null) {
+						snapshot = new MappingSnapshot(this.registry, this.pathLookup,
+								this.prefixLookup, this.unprefixedMappings, getMatchCacheLimit());
+						this.snapshot = snapshot;
+					}
+				}
+				finally {
+					this.writeLock.unlock();
+				}
+			}
+			return snapshot;
 		}
 
 		/**
-		 * Return matches for the given URL path. Not thread-safe.
-		 * @see #acquireReadLock()
+		 * Return matches for the given URL path. Thread-safe for concurrent use.
+		 * @see #getSnapshot()
 		 */
 		@Nullable
 		public List<T> getMappingsByDirectPath(String urlPath) {
-			return this.pathLookup.get(urlPath);
+			return getSnapshot().getMappingsByDirectPath(urlPath);
+		}
+
+		/**
+		 * Return the mappings to check for the given URL path when there is no
+		 * direct path match. Thread-safe for concurrent use.
+		 * @since 5.3
+		 * @see #getSnapshot()
+		 */
+		public Collection<T> getMappingsByPathPrefix(String urlPath) {
+			return getSnapshot().getMappingsByPathPrefix(urlPath);
 		}
 
 		/**
@@ -591,20 +715,6 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.corsLookup.get(original != null ? original : handlerMethod);
 		}
 
-		/**
-		 * Acquire the read lock when using getMappings and getMappingsByUrl.
-		 */
-		public void acquireReadLock() {
-			this.readWriteLock.readLock().lock();
-		}
-
-		/**
-		 * Release the read lock after using getMappings and getMappingsByUrl.
-		 */
-		public void releaseReadLock() {
-			this.readWriteLock.readLock().unlock();
-		}
-
 		public void register(T mapping, Object handler, Method method) {
 			// Assert that the handler method is not a suspending one.
 			if (KotlinDetector.isKotlinType(method.getDeclaringClass())) {
@@ -613,7 +723,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					throw new IllegalStateException("Unsupported suspending handler method detected: " + method);
 				}
 			}
-			this.readWriteLock.writeLock().lock();
+			this.writeLock.lock();
 			try {
 				HandlerMethod handlerMethod = createHandlerMethod(handler, method);
 				validateMethodMapping(handlerMethod, mapping);
@@ -623,6 +733,17 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				Set<String> pathPrefixes = new LinkedHashSet<>();
+				for (String prefix : AbstractHandlerMethodMapping.this.getPathPrefixes(mapping)) {
+					pathPrefixes.add(toLowerCase(prefix));
+				}
+				if (pathPrefixes.isEmpty()) {
+					this.unprefixedMappings.add(mapping);
+				}
+				for (String prefix : pathPrefixes) {
+					this.prefixLookup.add(prefix, mapping);
+				}
+
 				String name = null;
 				if (getNamingStrategy() != null) {
 					name = getNamingStrategy().getName(handlerMethod, mapping);
@@ -635,10 +756,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.corsLookup.put(handlerMethod, config);
 				}
 
-				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directPaths, name));
+				this.registry.put(mapping, new MappingRegistration<>(mapping, handlerMethod, directPaths, pathPrefixes, name));
 			}
 			finally {
-				this.readWriteLock.writeLock().unlock();
+				this.snapshot = null;
+				this.writeLock.unlock();
 			}
 		}
 
@@ -672,7 +794,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		}
 
 		public void unregister(T mapping) {
-			this.readWriteLock.writeLock().lock();
+			this.writeLock.lock();
 			try {
 				MappingRegistration<T> registration = this.registry.remove(mapping);
 				if (registration == null) {
@@ -689,12 +811,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				if (registration.getPathPrefixes().isEmpty()) {
+					this.unprefixedMappings.remove(registration.getMapping());
+				}
+				for (String prefix : registration.getPathPrefixes()) {
+					List<T> mappings = this.prefixLookup.get(prefix);
+					if (mappings != null) {
+						mappings.remove(registration.getMapping());
+						if (mappings.isEmpty()) {
+							this.prefixLookup.remove(prefix);
+						}
+					}
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
-				this.readWriteLock.writeLock().unlock();
+				this.snapshot = null;
+				this.writeLock.unlock();
 			}
 		}
 
@@ -723,6 +859,106 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	}
 
 
+	/**
+	 * Immutable view of the mappings in the {@link MappingRegistry} at a given
+	 * point in time, allowing for lookups without locking.
+	 * <p>Package-private for testing purposes.
+	 * @since 5.3
+	 */
+	class MappingSnapshot {
+
+		private final Map<T, MappingRegistration<T>> registrations;
+
+		private final Map<String, List<T>> pathLookup;
+
+		private final Map<String, List<T>> prefixLookup;
+
+		private final List<T> unprefixedMappings;
+
+		@Nullable
+		private final ConcurrentLruCache<Object, Match> matchCache;
+
+		MappingSnapshot(Map<T, MappingRegistration<T>> registrations, Map<String, List<T>> pathLookup,
+				Map<String, List<T>> prefixLookup, List<T> unprefixedMappings, int matchCacheLimit) {
+
+			this.registrations = Collections.unmodifiableMap(new HashMap<>(registrations));
+			this.pathLookup = copyLookup(pathLookup);
+			this.prefixLookup = copyLookup(prefixLookup);
+			this.unprefixedMappings = Collections.unmodifiableList(new ArrayList<>(unprefixedMappings));
+			this.matchCache = (matchCacheLimit > 0 ? new ConcurrentLruCache<>(matchCacheLimit) : null);
+		}
+
+		private Map<String, List<T>> copyLookup(Map<String, List<T>> lookup) {
+			Map<String, List<T>> copy = new HashMap<>(lookup.size());
+			lookup.forEach((key, mappings) -> copy.put(key, Collections.unmodifiableList(new ArrayList<>(mappings))));
+			return copy;
+		}
+
+		/**
+		 * Return all registrations.
+		 */
+		public Map<T, MappingRegistration<T>> getRegistrations() {
+			return this.registrations;
+		}
+
+		/**
+		 * Return matches for the given URL path.
+		 */
+		@Nullable
+		public List<T> getMappingsByDirectPath(String urlPath) {
+			return this.pathLookup.get(urlPath);
+		}
+
+		/**
+		 * Return the mappings to check for the given URL path when there is no
+		 * direct path match: the mappings registered under the first segment of
+		 * the path along with the mappings without a literal path prefix. Falls
+		 * back on all mappings if the path prefix cannot be determined reliably.
+		 * @see AbstractHandlerMethodMapping#getPathPrefixes
+		 */
+		public Collection<T> getMappingsByPathPrefix(String urlPath) {
+			String prefix = (!this.prefixLookup.isEmpty() ? getRequestPathPrefix(urlPath) : null);
+			if (prefix == null) {
+				return this.registrations.keySet();
+			}
+			List<T> mappings = this.prefixLookup.get(prefix);
+			if (mappings == null) {
+				return this.unprefixedMappings;
+			}
+			if (this.unprefixedMappings.isEmpty()) {
+				return mappings;
+			}
+			List<T> result = new ArrayList<>(mappings.size() + this.unprefixedMappings.size());
+			result.addAll(mappings);
+			result.addAll(this.unprefixedMappings);
+			return result;
+		}
+	}
+
+
+	@Nullable
+	private static String getRequestPathPrefix(String urlPath) {
+		if (urlPath.isEmpty() || urlPath.charAt(0) != '/') {
+			return null;
+		}
+		int end = urlPath.indexOf('/', 1);
+		String segment = (end != -1 ? urlPath.substring(1, end) : urlPath.substring(1));
+		// Encoded characters and path parameters are only resolved by the matching itself
+		if (segment.indexOf('%') != -1 || segment.indexOf(';') != -1) {
+			return null;
+		}
+		return toLowerCase(segment);
+	}
+
+	private static String toLowerCase(String segment) {
+		char[] chars = segment.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(chars[i]);
+		}
+		return new String(chars);
+	}
+
+
 	static class MappingRegistration<T> {
 
 		private final T mapping;
@@ -731,17 +967,26 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Set<String> directPaths;
 
+		private final Set<String> pathPrefixes;
+
 		@Nullable
 		private final String mappingName;
 
 		public MappingRegistration(T mapping, HandlerMethod handlerMethod,
 				@Nullable Set<String> directPaths, @Nullable String mappingName) {
 
+			this(mapping, handlerMethod, directPaths, null, mappingName);
+		}
+
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod, @Nullable Set<String> directPaths,
+				@Nullable Set<String> pathPrefixes, @Nullable String mappingName) {
+
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
 			this.directPaths = (directPaths != null ? directPaths : Collections.emptySet());
+			this.pathPrefixes = (pathPrefixes != null ? pathPrefixes : Collections.emptySet());
 			this.mappingName = mappingName;
 		}
 
@@ -757,6 +1002,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.directPaths;
 		}
 
+		public Set<String> getPathPrefixes() {
+			return this.pathPrefixes;
+		}
+
 		@Nullable
 		public String getMappingName() {
 			return this.mappingName;
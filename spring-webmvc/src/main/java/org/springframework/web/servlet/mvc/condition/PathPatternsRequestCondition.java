@@ -137,6 +137,26 @@ public final class PathPatternsRequestCondition extends AbstractRequestCondition
 		return result;
 	}
 
+	/**
+	 * Return the literal first path segments of the patterns, or an empty set
+	 * if any of the patterns does not start with a literal path segment.
+	 * @see PathPattern#getLiteralFirstSegment()
+	 */
+	public Set<String> getPathPrefixes() {
+		if (isEmptyPathMapping()) {
+			return Collections.emptySet();
+		}
+		Set<String> result = new HashSet<>(this.patterns.size());
+		for (PathPattern pattern : this.patterns) {
+			String prefix = pattern.getLiteralFirstSegment();
+			if (prefix == null) {
+				return Collections.emptySet();
+			}
+			result.add(prefix);
+		}
+		return result;
+	}
+
 	/**
 	 * Return the {@link #getPatterns()} mapped to Strings.
 	 */
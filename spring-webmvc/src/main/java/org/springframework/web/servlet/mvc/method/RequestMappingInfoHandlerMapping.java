@@ -26,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 
@@ -34,6 +35,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.PathContainer;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.MultiValueMap;
@@ -43,7 +45,9 @@ import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.RequestMatchCacheKey;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.handler.AbstractHandlerMethodMapping;
 import org.springframework.web.servlet.mvc.condition.NameValueExpression;
@@ -97,6 +101,49 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getDirectPaths();
 	}
 
+	@Override
+	protected Set<String> getPathPrefixes(RequestMappingInfo info) {
+		// String patterns are not indexed, given AntPathMatcher's suffix and case-insensitive matching
+		PathPatternsRequestCondition condition = info.getPathPatternsCondition();
+		return (condition != null ? condition.getPathPrefixes() : Collections.emptySet());
+	}
+
+	@Override
+	@Nullable
+	protected Object getMatchCacheKey(String lookupPath, HttpServletRequest request) {
+		// Forward, include, error, and async dispatches are looked up without caching
+		if (request.getDispatcherType() != DispatcherType.REQUEST || CorsUtils.isPreFlightRequest(request)) {
+			return null;
+		}
+		return new RequestMatchCacheKey(lookupPath, request.getMethod(), request.getContentType(),
+				Collections.list(request.getHeaders(HttpHeaders.ACCEPT)),
+				request.getHeader(HttpHeaders.CONTENT_LENGTH), request.getHeader(HttpHeaders.TRANSFER_ENCODING));
+	}
+
+	/**
+	 * Whether the given {@code RequestMappingInfo} has no params, headers, or
+	 * custom conditions, and no produces condition either, unless requested
+	 * media types are {@link #isAcceptHeaderContentNegotiation() resolved}
+	 * from the "Accept" header only.
+	 */
+	@Override
+	protected boolean isMatchCacheable(RequestMappingInfo info) {
+		return (info.getParamsCondition().isEmpty() && info.getHeadersCondition().isEmpty() &&
+				info.getCustomCondition() == null &&
+				(info.getProducesCondition().isEmpty() || isAcceptHeaderContentNegotiation()));
+	}
+
+	/**
+	 * Whether requested media types are resolved from the "Accept" header
+	 * only, allowing lookups that involve produces conditions to be cached.
+	 * <p>The default implementation returns {@code false}.
+	 * @since 5.3
+	 * @see #setMatchCacheLimit
+	 */
+	protected boolean isAcceptHeaderContentNegotiation() {
+		return false;
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
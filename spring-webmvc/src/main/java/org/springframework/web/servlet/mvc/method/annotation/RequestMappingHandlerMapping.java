@@ -37,6 +37,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringValueResolver;
 import org.springframework.web.accept.ContentNegotiationManager;
+import org.springframework.web.accept.ContentNegotiationStrategy;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -179,6 +181,21 @@ public class RequestMappingHandlerMapping extends RequestMappingInfoHandlerMappi
 		return this.contentNegotiationManager;
 	}
 
+	/**
+	 * Returns {@code true} if the configured {@link ContentNegotiationManager}
+	 * consults the "Accept" header only.
+	 * @since 5.3
+	 */
+	@Override
+	protected boolean isAcceptHeaderContentNegotiation() {
+		for (ContentNegotiationStrategy strategy : getContentNegotiationManager().getStrategies()) {
+			if (!(strategy instanceof HeaderContentNegotiationStrategy)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public void setEmbeddedValueResolver(StringValueResolver resolver) {
 		this.embeddedValueResolver = resolver;
@@ -29,6 +29,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
@@ -39,6 +40,8 @@ import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 import org.springframework.web.util.UrlPathHelper;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
@@ -230,6 +233,79 @@ public class HandlerMethodMappingTests {
 		assertThat(this.mapping.getMappingRegistry().getCorsConfiguration(handlerMethod)).isNull();
 	}
 
+	@Test
+	public void registerMappingAfterSnapshot() throws Exception {
+		this.mapping.registerMapping("/foo", this.handler, this.method1);
+		AbstractHandlerMethodMapping<String>.MappingSnapshot snapshot = this.mapping.getMappingRegistry().getSnapshot();
+		assertThat(this.mapping.getMappingRegistry().getSnapshot()).isSameAs(snapshot);
+
+		this.mapping.registerMapping("/bar", this.handler, this.method2);
+		assertThat(snapshot.getRegistrations()).containsOnlyKeys("/foo");
+		assertThat(snapshot.getMappingsByDirectPath("/bar")).isNull();
+		assertThat(this.mapping.getMappingRegistry().getSnapshot()).isNotSameAs(snapshot);
+		assertThat(this.mapping.getMappingRegistry().getRegistrations()).containsOnlyKeys("/foo", "/bar");
+
+		HandlerMethod result = this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar"));
+		assertThat(result.getMethod()).isEqualTo(this.method2);
+	}
+
+	@Test
+	public void pathPrefixMatch() throws Exception {
+		PrefixHandlerMethodMapping mapping = new PrefixHandlerMethodMapping();
+		mapping.registerMapping("/foo/{id}", this.handler, this.method1);
+		mapping.registerMapping("/bar/{id}", this.handler, this.method2);
+		mapping.registerMapping("/{path}/baz", this.handler, this.method2);
+
+		AbstractHandlerMethodMapping<String>.MappingRegistry registry = mapping.getMappingRegistry();
+		assertThat(registry.getMappingsByPathPrefix("/bar/1")).containsExactly("/bar/{id}", "/{path}/baz");
+		assertThat(registry.getMappingsByPathPrefix("/bar/1/")).containsExactly("/bar/{id}", "/{path}/baz");
+		assertThat(registry.getMappingsByPathPrefix("/other")).containsExactly("/{path}/baz");
+		assertThat(registry.getMappingsByPathPrefix("/b%61r/1"))
+				.containsExactlyInAnyOrder("/foo/{id}", "/bar/{id}", "/{path}/baz");
+		assertThat(registry.getMappingsByPathPrefix("/bar;a=b/1"))
+				.containsExactlyInAnyOrder("/foo/{id}", "/bar/{id}", "/{path}/baz");
+
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/1"));
+		assertThat(result.getMethod()).isEqualTo(this.method2);
+		assertThat(mapping.getMatches()).containsExactly("/bar/{id}");
+
+		mapping.unregisterMapping("/bar/{id}");
+		assertThat(registry.getMappingsByPathPrefix("/bar/1")).containsExactly("/{path}/baz");
+	}
+
+	@Test
+	public void pathPrefixMatchIsCaseInsensitive() throws Exception {
+		PrefixHandlerMethodMapping mapping = new PrefixHandlerMethodMapping();
+		mapping.registerMapping("/Foo/{id}", this.handler, this.method1);
+		mapping.registerMapping("/bar/{id}", this.handler, this.method2);
+
+		AbstractHandlerMethodMapping<String>.MappingRegistry registry = mapping.getMappingRegistry();
+		assertThat(registry.getMappingsByPathPrefix("/foo/1")).containsExactly("/Foo/{id}");
+		assertThat(registry.getMappingsByPathPrefix("/BAR/1")).containsExactly("/bar/{id}");
+
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/FOO/1"));
+		assertThat(result.getMethod()).isEqualTo(this.method1);
+		result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/Bar/1"));
+		assertThat(result.getMethod()).isEqualTo(this.method2);
+	}
+
+	@Test
+	public void pathPrefixMatchWithTrailingSlashAndSuffix() throws Exception {
+		PrefixHandlerMethodMapping mapping = new PrefixHandlerMethodMapping();
+		mapping.registerMapping("/bar", this.handler, this.method1);
+		mapping.registerMapping("/{name}.json", this.handler, this.method2);
+
+		// Trailing slash: same first segment as the indexed mapping
+		HandlerMethod result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/"));
+		assertThat(result.getMethod()).isEqualTo(this.method1);
+
+		// Suffix: not under the "bar" prefix, falls back on the unprefixed mappings
+		assertThat(mapping.getMappingRegistry().getMappingsByPathPrefix("/bar.json")).containsExactly("/{name}.json");
+		result = mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar.json"));
+		assertThat(result.getMethod()).isEqualTo(this.method2);
+		assertThat(mapping.getMatches()).containsExactly("/bar", "/{name}.json");
+	}
+
 	@Test
 	public void getCorsConfigWithBeanNameHandler() throws Exception {
 
@@ -307,6 +383,44 @@ public class HandlerMethodMappingTests {
 
 	}
 
+	private static class PrefixHandlerMethodMapping extends MyHandlerMethodMapping {
+
+		private final PathPatternParser parser = new PathPatternParser();
+
+		private final List<String> matches = new ArrayList<>();
+
+		public PrefixHandlerMethodMapping() {
+			this.parser.setCaseSensitive(false);
+		}
+
+		@Override
+		public List<String> getMatches() {
+			return this.matches;
+		}
+
+		@Override
+		protected Set<String> getPathPrefixes(String mapping) {
+			String prefix = this.parser.parse(mapping).getLiteralFirstSegment();
+			return (prefix != null ? Collections.singleton(prefix) : Collections.emptySet());
+		}
+
+		@Override
+		protected String getMatchingMapping(String pattern, HttpServletRequest request) {
+			String lookupPath = UrlPathHelper.defaultInstance.getLookupPathForRequest(request);
+			PathPattern parsedPattern = this.parser.parse(pattern);
+			String match = (parsedPattern.matches(PathContainer.parsePath(lookupPath)) ? pattern : null);
+			if (match != null) {
+				this.matches.add(match);
+			}
+			return match;
+		}
+
+		@Override
+		protected Comparator<String> getMappingComparator(HttpServletRequest request) {
+			return (o1, o2) -> PathPattern.SPECIFICITY_COMPARATOR.compare(this.parser.parse(o1), this.parser.parse(o2));
+		}
+	}
+
 	private static class SimpleMappingNamingStrategy implements HandlerMethodMappingNamingStrategy<String> {
 
 		@Override
@@ -24,16 +24,19 @@ import java.util.Map;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import javax.servlet.DispatcherType;
 import javax.servlet.http.HttpServletRequest;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.beans.DirectFieldAccessor;
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.RequestPath;
 import org.springframework.stereotype.Controller;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.HttpMediaTypeNotAcceptableException;
 import org.springframework.web.HttpMediaTypeNotSupportedException;
@@ -151,6 +154,38 @@ class RequestMappingInfoHandlerMappingTests {
 		assertThat(handlerMethod.getMethod()).isEqualTo(this.fooParamMethod.getMethod());
 	}
 
+	@PathPatternsParameterizedTest
+	void getHandlerWithMatchCache(TestRequestMappingInfoHandlerMapping mapping) throws Exception {
+		mapping.setMatchCacheLimit(16);
+
+		for (int i = 0; i < 2; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bar");
+			HandlerMethod handlerMethod = getHandler(mapping, request);
+			assertThat(handlerMethod.getMethod()).isEqualTo(this.barMethod.getMethod());
+			Object bestMatch = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			assertThat(bestMatch.toString()).isEqualTo("/ba*");
+		}
+		assertThat(getMatchCacheSize(mapping)).isEqualTo(1);
+
+		// Lookups involving params conditions are not cached
+		for (int i = 0; i < 2; i++) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/foo");
+			request.setParameter("p", "anything");
+			assertThat(getHandler(mapping, request).getMethod()).isEqualTo(this.fooParamMethod.getMethod());
+
+			request = new MockHttpServletRequest("GET", "/foo");
+			assertThat(getHandler(mapping, request).getMethod()).isEqualTo(this.fooMethod.getMethod());
+		}
+
+		// Neither are lookups without a match, nor dispatches other than REQUEST
+		assertThat(mapping.getHandler(new MockHttpServletRequest("GET", "/none"))).isNull();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/bars");
+		request.setDispatcherType(DispatcherType.FORWARD);
+		assertThat(getHandler(mapping, request).getMethod()).isEqualTo(this.barMethod.getMethod());
+
+		assertThat(getMatchCacheSize(mapping)).isEqualTo(1);
+	}
+
 	@PathPatternsParameterizedTest
 	void getHandlerRequestMethodNotAllowed(TestRequestMappingInfoHandlerMapping mapping) {
 		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/bar");
@@ -393,6 +428,11 @@ class RequestMappingInfoHandlerMappingTests {
 		return (HandlerMethod) chain.getHandler();
 	}
 
+	private int getMatchCacheSize(TestRequestMappingInfoHandlerMapping mapping) {
+		Object matchCache = new DirectFieldAccessor(mapping).getPropertyValue("mappingRegistry.snapshot.matchCache");
+		return ((ConcurrentLruCache<?, ?>) matchCache).size();
+	}
+
 	private void testHttpMediaTypeNotSupportedException(TestRequestMappingInfoHandlerMapping mapping, String url) {
 		MockHttpServletRequest request = new MockHttpServletRequest("PUT", url);
 		request.setContentType("application/json");